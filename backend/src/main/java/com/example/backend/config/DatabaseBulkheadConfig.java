@@ -0,0 +1,53 @@
+package com.example.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wraps the pooled DataSource in a BulkheadDataSource (app.db.bulkhead.enabled, on by
+ * default in virtual-thread mode). Permits default to the Hikari pool size, so callers
+ * beyond it wait in the bulkhead for at most app.db.bulkhead.max-wait-ms and then get a 503.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.bulkhead.enabled", havingValue = "true")
+public class DatabaseBulkheadConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(Environment environment,
+                                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BulkheadPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                // Hikari reports -1 until the pool starts and then applies its default of 10
+                int poolSize = pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                int permits = environment.getProperty("app.db.bulkhead.permits", Integer.class, poolSize);
+                long maxWaitMillis = environment.getProperty("app.db.bulkhead.max-wait-ms", Long.class, 200L);
+                return new BulkheadDataSource(pool, permits, maxWaitMillis, meterRegistry.getObject());
+            }
+        };
+    }
+
+    // Wraps the Hikari pool itself, before ReadWriteRoutingConfig wraps the resulting DataSource bean
+    private abstract static class BulkheadPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-request JDBC statement counts. Endpoint timers (http.server.requests),
+ * service timers (@Timed), Hibernate statistics and HikariCP gauges are bound by
+ * Spring Boot; see the management.* properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor statementCountingPostProcessor(ObjectProvider<StatementCounter> statementCounter) {
+        return new StatementCountingPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return new StatementCountingDataSource(dataSource, statementCounter.getObject());
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(StatementCounter statementCounter,
+                                                                              MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new RequestMetricsFilter(statementCounter, meterRegistry));
+    }
+
+    // Wraps last, around the bulkhead and the read/write router, so replica reads are counted too
+    private abstract static class StatementCountingPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.backend.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions to replicas (app.db.routing.enabled).
+ * The DataSource bean is wrapped in a LazyConnectionDataSourceProxy: the physical
+ * connection is only fetched at the first statement, after the transaction manager
+ * has marked it read-only, and read-only connections come from a ReplicaPoolDataSource
+ * over app.db.replicas.urls. Everything else, including Flyway, uses the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    public static BeanPostProcessor readWriteRoutingPostProcessor(Environment environment,
+                                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RoutingPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                    return bean;
+                }
+                MeterRegistry registry = meterRegistry.getObject();
+                long healthCheckMillis = environment.getProperty("app.db.replicas.health-check-ms", Long.class, 5000L);
+                ReplicaPoolDataSource replicas = new ReplicaPoolDataSource(
+                        primary, replicaPools(environment, registry), healthCheckMillis, registry);
+                return new RoutingDataSource(primary, replicas);
+            }
+        };
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(Environment environment) {
+        return new ReadYourWritesFilter(
+                environment.getProperty("app.db.replicas.read-your-writes", Duration.class, Duration.ofSeconds(5)));
+    }
+
+    private static List<HikariDataSource> replicaPools(Environment environment, MeterRegistry registry) {
+        String[] urls = environment.getProperty("app.db.replicas.urls", String[].class, new String[0]);
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(environment.getProperty("app.db.replicas.username",
+                    environment.getProperty("spring.datasource.username")));
+            pool.setPassword(environment.getProperty("app.db.replicas.password",
+                    environment.getProperty("spring.datasource.password")));
+            pool.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+            pool.setMaximumPoolSize(environment.getProperty("app.db.replicas.pool-size", Integer.class, 10));
+            pool.setReadOnly(true);
+            // Fail fast on a dead replica; the router then tries the next one or the primary
+            pool.setConnectionTimeout(environment.getProperty("app.db.replicas.connection-timeout-ms", Long.class, 1000L));
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            pools.add(pool);
+        }
+        return pools;
+    }
+
+    // Wraps after the bulkhead and before MetricsConfig adds statement counting
+    private abstract static class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+
+    /** The routed DataSource bean; closing it closes the replica pools and the primary pool. */
+    static class RoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final DataSource primary;
+        private final ReplicaPoolDataSource replicas;
+
+        RoutingDataSource(DataSource primary, ReplicaPoolDataSource replicas) {
+            super(primary);
+            this.primary = primary;
+            this.replicas = replicas;
+            setReadOnlyDataSource(replicas);
+        }
+
+        @Override
+        public void close() throws Exception {
+            replicas.close();
+            if (primary.isWrapperFor(HikariDataSource.class)) {
+                primary.unwrap(HikariDataSource.class).close();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.backend.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.backend.event.IssueChangedEvent;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes window for replica routing. Every committed issue change records
+ * its acting user; for the next `window`, requests carrying that user in the X-User-Id
+ * header read from the primary, so they never see a replica that has not caught up
+ * with their own write. Requests without the header always use the replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String USER_HEADER = "X-User-Id";
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final long windowNanos;
+    // User ID -> System.nanoTime() until which their reads go to the primary
+    private final ConcurrentHashMap<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (windowNanos <= 0 || event.actorUserId() == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (pinnedUntil.size() > PRUNE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until - now < 0);
+        }
+        pinnedUntil.put(event.actorUserId(), now + windowNanos);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!recentlyWrote(request.getHeader(USER_HEADER))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    private boolean recentlyWrote(String userHeader) {
+        if (userHeader == null || pinnedUntil.isEmpty()) {
+            return false;
+        }
+        try {
+            Long until = pinnedUntil.get(Long.valueOf(userHeader.trim()));
+            return until != null && until - System.nanoTime() > 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.backend.config;
+
+/**
+ * Counts the SQL statements executed on the current thread, so that
+ * RequestMetricsFilter can record how many statements each request issued.
+ * Fed by StatementCountingDataSource, which MetricsConfig wraps around the
+ * DataSource bean, so JPA, JdbcTemplate and NamedParameterJdbcTemplate SQL
+ * are all counted.
+ */
+public class StatementCounter {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    public void increment() {
+        count.get()[0]++;
+    }
+
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    public int current() {
+        return count.get()[0];
+    }
+}
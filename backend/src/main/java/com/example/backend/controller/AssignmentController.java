@@ -1,15 +1,18 @@
 package com.example.backend.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.dto.ApiResponse;
 import com.example.backend.dto.IssueDto;
 import com.example.backend.dto.request.AssignIssueRequest;
+import com.example.backend.dto.request.AutoAssignIssueRequest;
 import com.example.backend.mapper.IssueMapper;
 import com.example.backend.model.Issue;
 import com.example.backend.service.AssignmentService;
@@ -32,17 +35,38 @@ public class AssignmentController {
     @PutMapping("/{id}/assign")
     public ResponseEntity<ApiResponse<IssueDto>> assignIssue(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody AssignIssueRequest request) {
 
         Issue updatedIssue = assignmentService.assignIssue(
                 id,
                 request.getAssigneeUserId(),
-                request.getAssignedByUserId()
+                request.getAssignedByUserId(),
+                IssueETags.parseIfMatch(ifMatch)
         );
 
-        return ResponseEntity.ok(
-                ApiResponse.success("Issue assigned successfully",
-                        issueMapper.toDto(updatedIssue))
+        return ResponseEntity.ok()
+                .eTag(IssueETags.of(updatedIssue.getVersion()))
+                .body(ApiResponse.success("Issue assigned successfully",
+                        issueMapper.toDto(updatedIssue)));
+    }
+
+    // Picks the developer with the least weighted open workload
+    @PutMapping("/{id}/auto-assign")
+    public ResponseEntity<ApiResponse<IssueDto>> autoAssignIssue(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody AutoAssignIssueRequest request) {
+
+        Issue updatedIssue = assignmentService.autoAssignIssue(
+                id,
+                request.getAssignedByUserId(),
+                IssueETags.parseIfMatch(ifMatch)
         );
+
+        return ResponseEntity.ok()
+                .eTag(IssueETags.of(updatedIssue.getVersion()))
+                .body(ApiResponse.success("Issue assigned successfully",
+                        issueMapper.toDto(updatedIssue)));
     }
-}
\ No newline at end of file
+}
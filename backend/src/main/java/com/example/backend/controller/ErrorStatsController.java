@@ -0,0 +1,34 @@
+package com.example.backend.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.backend.dto.ApiResponse;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.exception.ErrorCodeCounters;
+
+/**
+ * Rejection counters per error code
+ * Endpoint: GET /api/errors/stats
+ */
+@RestController
+@RequestMapping("/api/errors")
+public class ErrorStatsController {
+
+    private final ErrorCodeCounters errorCounters;
+
+    public ErrorStatsController(ErrorCodeCounters errorCounters) {
+        this.errorCounters = errorCounters;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<ErrorCode, Long>>> getErrorStats() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Error statistics retrieved successfully", errorCounters.snapshot())
+        );
+    }
+}
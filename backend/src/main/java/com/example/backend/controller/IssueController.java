@@ -1,5 +1,7 @@
 package com.example.backend.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.dto.ApiResponse;
+import com.example.backend.dto.BulkCreateResultDto;
 import com.example.backend.dto.IssueDto;
 import com.example.backend.dto.request.CreateIssueRequest;
 import com.example.backend.mapper.IssueMapper;
@@ -40,7 +43,28 @@ public class IssueController {
         );
 
         return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(IssueETags.of(createdIssue.getVersion()))
                 .body(ApiResponse.success("Issue created successfully",
                         issueMapper.toDto(createdIssue)));
     }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkCreateResultDto>> createIssues(
+            @RequestBody List<CreateIssueRequest> requests) {
+
+        BulkCreateResultDto result = issueService.createIssues(requests);
+
+        // Nothing was created: 400 with the per-item errors rather than a 201 for an empty result
+        if (result.getCreated() == 0) {
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>("No issues created", result));
+        }
+
+        String message = result.getErrors().isEmpty()
+                ? "Issues created successfully"
+                : String.format("%d of %d issues created", result.getCreated(), result.getRequested());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(message, result));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.backend.controller;
+
+import com.example.backend.exception.BusinessException;
+
+/**
+ * Conversions between an issue's optimistic-lock version and HTTP ETag / If-Match values.
+ */
+final class IssueETags {
+
+    private IssueETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // Returns null when there is no precondition ("*" or header absent)
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
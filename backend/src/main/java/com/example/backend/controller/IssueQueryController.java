@@ -1,62 +1,249 @@
 package com.example.backend.controller;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.backend.dto.ApiResponse;
+import com.example.backend.dto.ChangeToken;
+import com.example.backend.dto.IssueCursor;
 import com.example.backend.dto.IssueDto;
+import com.example.backend.dto.IssueField;
+import com.example.backend.dto.IssueHistoryDto;
+import com.example.backend.dto.IssueSearchCursor;
+import com.example.backend.dto.IssueSearchHit;
+import com.example.backend.dto.IssueStatsDto;
+import com.example.backend.dto.SparseIssueDto;
 import com.example.backend.exception.BusinessException;
-import com.example.backend.mapper.IssueMapper;
 import com.example.backend.model.IssueStatus;
+import com.example.backend.service.IssueExportService;
+import com.example.backend.service.IssueHistoryService;
 import com.example.backend.service.IssueQueryService;
+import com.example.backend.service.IssueStatsService;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 
 @RestController
 @RequestMapping("/api/issues")
 public class IssueQueryController {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_QUERY_LENGTH = 200;
+    static final int DEFAULT_CHANGES_LIMIT = 500;
+    static final int MAX_CHANGES_LIMIT = 1000;
+
     private final IssueQueryService queryService;
-    private final IssueMapper issueMapper;
+    private final IssueExportService exportService;
+    private final IssueStatsService statsService;
+    private final IssueHistoryService historyService;
 
     public IssueQueryController(IssueQueryService queryService,
-                                IssueMapper issueMapper) {
+                                IssueExportService exportService,
+                                IssueStatsService statsService,
+                                IssueHistoryService historyService) {
         this.queryService = queryService;
-        this.issueMapper = issueMapper;
+        this.exportService = exportService;
+        this.statsService = statsService;
+        this.historyService = historyService;
     }
 
+    // fields= selects a subset of id,title,description,status,priority,createdBy,assignedTo,createdAt,updatedAt,version
+    // Archived issues are listed for status=CLOSED, or with includeArchived=true
     @GetMapping
-    public ResponseEntity<ApiResponse<List<IssueDto>>> getFilteredIssues(
+    public ResponseEntity<MappingJacksonValue> getFilteredIssues(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) Long assignedTo,
-            @RequestParam(required = false) Long createdBy) {
-
-        IssueStatus statusEnum = null;
-
-        if (status != null && !status.trim().isEmpty()) {
-            try {
-                statusEnum = IssueStatus.valueOf(status.trim().toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new BusinessException(
-                        "Invalid status value. Must be OPEN, IN_PROGRESS, RESOLVED, CLOSED"
-                );
-            }
-        }
-
-        List<IssueDto> issueDtos = queryService.getFilteredIssues(
-                        statusEnum,
-                        assignedTo,
-                        createdBy
-                )
-                .stream()
-                .map(issueMapper::toDto)
+            @RequestParam(required = false) Long createdBy,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+
+        IssueStatus statusEnum = parseStatus(status);
+        Set<IssueField> fieldSet = IssueField.parse(fields);
+
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+
+        if (q != null && !q.isBlank()) {
+            return withFields(searchIssues(q.trim(), statusEnum, assignedTo, createdBy,
+                    hasCursor ? IssueSearchCursor.decode(cursor) : null, pageSize, fieldSet, includeArchived), fieldSet);
+        }
+
+        IssueCursor after = hasCursor ? IssueCursor.decode(cursor) : null;
+
+        // Fetch one extra row to know whether another page exists
+        List<IssueDto> issues = queryService.getFilteredIssuePage(
+                statusEnum,
+                assignedTo,
+                createdBy,
+                after,
+                pageSize + 1,
+                fieldSet,
+                includeArchived
+        );
+
+        String nextCursor = null;
+        if (issues.size() > pageSize) {
+            issues = issues.subList(0, pageSize);
+            nextCursor = IssueCursor.of(issues.get(pageSize - 1)).encode();
+        }
+
+        return withFields(ApiResponse.page("Issues retrieved successfully", issues, nextCursor), fieldSet);
+    }
+
+    // Delta sync: pass the returned token as since= on the next poll; omit it for a full sync
+    @GetMapping("/changes")
+    public ResponseEntity<MappingJacksonValue> getIssueChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields) {
+
+        Set<IssueField> fieldSet = IssueField.parse(fields);
+        if (fieldSet != null) {
+            // Clients merge changes into their cache by ID
+            fieldSet.add(IssueField.ID);
+        }
+        int changesLimit = limit != null ? limit : DEFAULT_CHANGES_LIMIT;
+        if (changesLimit < 1 || changesLimit > MAX_CHANGES_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        ChangeToken token = since != null && !since.isBlank() ? ChangeToken.decode(since) : ChangeToken.START;
+
+        return withFields(ApiResponse.success("Issue changes retrieved successfully",
+                queryService.getChangesSince(token, changesLimit, fieldSet)), fieldSet);
+    }
+
+    // Sparse rows are SparseIssueDto; their filter leaves out every field that was not selected
+    private ResponseEntity<MappingJacksonValue> withFields(ApiResponse<?> response, Set<IssueField> fields) {
+        MappingJacksonValue body = new MappingJacksonValue(response);
+        if (fields != null) {
+            Set<String> names = fields.stream().map(IssueField::jsonName).collect(Collectors.toSet());
+            body.setFilters(new SimpleFilterProvider().addFilter(SparseIssueDto.FILTER,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        }
+        return ResponseEntity.ok(body);
+    }
+
+    private ApiResponse<List<IssueDto>> searchIssues(
+            String query,
+            IssueStatus status,
+            Long assignedTo,
+            Long createdBy,
+            IssueSearchCursor after,
+            int pageSize,
+            Set<IssueField> fields,
+            boolean includeArchived) {
+
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (query.replace("\"", "").isBlank()) {
+            throw new BusinessException("Search query must contain at least one word");
+        }
+
+        List<IssueSearchHit> hits = queryService.searchIssuePage(
+                query,
+                status,
+                assignedTo,
+                createdBy,
+                after,
+                pageSize + 1,
+                fields,
+                includeArchived
+        );
+
+        String nextCursor = null;
+        if (hits.size() > pageSize) {
+            hits = hits.subList(0, pageSize);
+            nextCursor = IssueSearchCursor.of(hits.get(pageSize - 1)).encode();
+        }
+
+        List<IssueDto> issues = hits.stream()
+                .map(IssueSearchHit::issue)
                 .toList();
 
+        return ApiResponse.page("Issues retrieved successfully", issues, nextCursor);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<IssueStatsDto>> getIssueStats() {
         return ResponseEntity.ok(
-                ApiResponse.success("Issues retrieved successfully", issueDtos)
+                ApiResponse.success("Issue statistics retrieved successfully", statsService.getStats())
+        );
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<ApiResponse<List<IssueHistoryDto>>> getIssueHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(
+                ApiResponse.success("Issue history retrieved successfully", historyService.getHistory(id))
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIssues(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) Long createdBy,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        IssueStatus statusEnum = parseStatus(status);
+
+        IssueExportService.Format exportFormat;
+        try {
+            exportFormat = IssueExportService.Format.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid export format. Must be ndjson or csv");
+        }
+
+        MediaType contentType = exportFormat == IssueExportService.Format.CSV
+                ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> exportService.exportIssues(
+                statusEnum,
+                assignedTo,
+                createdBy,
+                includeArchived,
+                exportFormat,
+                out
         );
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=issues." + exportFormat.name().toLowerCase())
+                .body(body);
+    }
+
+    private IssueStatus parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return IssueStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(
+                    "Invalid status value. Must be OPEN, IN_PROGRESS, RESOLVED, CLOSED"
+            );
+        }
     }
-}
\ No newline at end of file
+}
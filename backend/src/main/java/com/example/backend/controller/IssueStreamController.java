@@ -0,0 +1,54 @@
+package com.example.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.backend.exception.BusinessException;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.service.IssueChangeStreamService;
+
+/**
+ * Live issue changes as Server-Sent Events, replacing list polling
+ * Endpoint: GET /api/issues/stream?status=&assignedTo=
+ * Each committed create/assign/status change is sent as an "issue" event whose data
+ * is the JSON change (type, issueId, old/new status, old/new assignee, actor, time).
+ */
+@RestController
+@RequestMapping("/api/issues")
+public class IssueStreamController {
+
+    private final IssueChangeStreamService streamService;
+
+    public IssueStreamController(IssueChangeStreamService streamService) {
+        this.streamService = streamService;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamIssueChanges(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long assignedTo) {
+
+        IssueStatus statusEnum = null;
+        if (status != null && !status.isBlank()) {
+            try {
+                statusEnum = IssueStatus.valueOf(status.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(
+                        "Invalid status value. Must be OPEN, IN_PROGRESS, RESOLVED, CLOSED"
+                );
+            }
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Stop reverse proxies (nginx) from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(streamService.subscribe(statusEnum, assignedTo));
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.backend.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -32,17 +34,19 @@ public class StatusController {
     @PutMapping("/{id}/status")
     public ResponseEntity<ApiResponse<IssueDto>> updateStatus(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateStatusRequest request) {
 
         Issue updatedIssue = statusService.updateIssueStatus(
                 id,
                 request.getNewStatus(),
-                request.getUserId()
+                request.getUserId(),
+                IssueETags.parseIfMatch(ifMatch)
         );
 
-        return ResponseEntity.ok(
-                ApiResponse.success("Status updated successfully",
-                        issueMapper.toDto(updatedIssue))
-        );
+        return ResponseEntity.ok()
+                .eTag(IssueETags.of(updatedIssue.getVersion()))
+                .body(ApiResponse.success("Status updated successfully",
+                        issueMapper.toDto(updatedIssue)));
     }
 }
\ No newline at end of file
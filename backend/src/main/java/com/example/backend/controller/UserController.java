@@ -6,15 +6,20 @@ import java.util.stream.Collectors;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.backend.dto.ApiResponse;
+import com.example.backend.dto.CacheStatsDto;
 import com.example.backend.dto.UserDto;
 import com.example.backend.dto.request.CreateUserRequest;
+import com.example.backend.dto.request.RenameUserRequest;
 import com.example.backend.model.User;
+import com.example.backend.service.UserDirectoryService;
 import com.example.backend.service.UserService;
 
 import jakarta.validation.Valid;
@@ -22,7 +27,7 @@ import jakarta.validation.Valid;
 /**
  * User Management Controller
  * Created by: Mythili (MY)
- * Endpoint: GET /api/users, POST /api/users
+ * Endpoint: GET /api/users, POST /api/users, PUT /api/users/{id}, GET /api/users/cache-stats
  */
 
 @RestController
@@ -30,9 +35,11 @@ import jakarta.validation.Valid;
 public class UserController {
 
     private final UserService userService;
+    private final UserDirectoryService userDirectory;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserDirectoryService userDirectory) {
         this.userService = userService;
+        this.userDirectory = userDirectory;
     }
 
     // CREATE USER
@@ -51,6 +58,19 @@ public class UserController {
                 .body(ApiResponse.success("User created successfully", dto));
     }
 
+    // RENAME USER
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<UserDto>> renameUser(
+            @PathVariable Long id,
+            @Valid @RequestBody RenameUserRequest request) {
+
+        User renamedUser = userService.renameUser(id, request.getName());
+
+        return ResponseEntity.ok(
+                ApiResponse.success("User renamed successfully", convertToDto(renamedUser))
+        );
+    }
+
     // GET ALL USERS
     @GetMapping
     public ResponseEntity<ApiResponse<List<UserDto>>> getAllUsers() {
@@ -65,6 +85,17 @@ public class UserController {
         );
     }
 
+    // USER CACHE METRICS
+    @GetMapping("/cache-stats")
+    public ResponseEntity<ApiResponse<CacheStatsDto>> getCacheStats() {
+
+        CacheStatsDto stats = CacheStatsDto.of(userDirectory.stats(), userDirectory.size());
+
+        return ResponseEntity.ok(
+                ApiResponse.success("User cache statistics retrieved successfully", stats)
+        );
+    }
+
     private UserDto convertToDto(User user) {
         UserDto dto = new UserDto();
         dto.setId(user.getId());
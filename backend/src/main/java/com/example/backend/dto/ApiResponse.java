@@ -2,6 +2,9 @@ package com.example.backend.dto;
 
 import java.time.LocalDateTime;
 
+import com.example.backend.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Getter;
 
 @Getter
@@ -11,17 +14,43 @@ public class ApiResponse<T> {
     private final String message;
     private final T data;
 
+    // Machine-readable reason, only present on error responses
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final ErrorCode errorCode;
+
+    // Opaque keyset cursor for the next page, only present on paginated responses
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
     public ApiResponse(String message, T data) {
+        this(message, data, null);
+    }
+
+    public ApiResponse(String message, T data, String nextCursor) {
+        this(message, data, nextCursor, null);
+    }
+
+    private ApiResponse(String message, T data, String nextCursor, ErrorCode errorCode) {
         this.timestamp = LocalDateTime.now();
         this.message = message;
         this.data = data;
+        this.nextCursor = nextCursor;
+        this.errorCode = errorCode;
     }
 
     public static <T> ApiResponse<T> success(String message, T data) {
         return new ApiResponse<>(message, data);
     }
 
+    public static <T> ApiResponse<T> page(String message, T data, String nextCursor) {
+        return new ApiResponse<>(message, data, nextCursor);
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(message, null);
     }
-}
\ No newline at end of file
+
+    public static <T> ApiResponse<T> error(ErrorCode errorCode, String message) {
+        return new ApiResponse<>(message, null, null, errorCode);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.backend.exception.ErrorCode;
+
+import lombok.Data;
+
+@Data
+public class BulkCreateResultDto {
+    private int requested;
+    private int created;
+    private List<Long> createdIds = new ArrayList<>();
+    private List<ItemError> errors = new ArrayList<>();
+
+    @Data
+    public static class ItemError {
+        // Zero-based position of the item in the request array
+        private final int index;
+        private final ErrorCode code;
+        private final String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.Data;
+
+@Data
+public class CacheStatsDto {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    public static CacheStatsDto of(CacheStats stats, long size) {
+        CacheStatsDto dto = new CacheStatsDto();
+        dto.setSize(size);
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        return dto;
+    }
+}
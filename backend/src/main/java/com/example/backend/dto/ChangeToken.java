@@ -0,0 +1,33 @@
+package com.example.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.backend.exception.BusinessException;
+
+/**
+ * Position in the issue change sequence for GET /api/issues/changes: every change with a
+ * higher sequence value has not been delivered yet. Opaque to clients, like the cursors.
+ */
+public record ChangeToken(long seq) {
+
+    public static final ChangeToken START = new ChangeToken(0);
+
+    public String encode() {
+        String raw = "c|" + seq;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeToken decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 2 || !"c".equals(parts[0])) {
+                throw new IllegalArgumentException(token);
+            }
+            return new ChangeToken(Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid change token");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.backend.dto;
+
+/**
+ * One entry of the issue change feed: the issue as it is now, or no issue when it was
+ * removed from the live list (archived).
+ */
+public record IssueChange(long issueId, IssueDto issue, long seq, boolean removed) {
+}
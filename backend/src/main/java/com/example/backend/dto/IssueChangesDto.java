@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class IssueChangesDto {
+    // Created or modified issues, current state
+    private List<IssueDto> changed;
+    // Tombstones: IDs of issues that left the live list (archived)
+    private List<Long> removed;
+    // Pass as since= on the next call
+    private String token;
+    // More changes are ready now; call again right away instead of waiting for the next poll
+    private boolean hasMore;
+}
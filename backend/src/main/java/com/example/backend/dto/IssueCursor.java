@@ -0,0 +1,37 @@
+package com.example.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.example.backend.exception.BusinessException;
+
+/**
+ * Keyset position in the (updatedAt DESC, id DESC) issue ordering.
+ * Serialized as an opaque URL-safe token so clients never build it themselves.
+ */
+public record IssueCursor(LocalDateTime updatedAt, Long id) {
+
+    public static IssueCursor of(IssueDto issue) {
+        return new IssueCursor(issue.getUpdatedAt(), issue.getId());
+    }
+
+    public String encode() {
+        String raw = updatedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IssueCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new IssueCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.valueOf(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor value");
+        }
+    }
+}
@@ -5,10 +5,13 @@ import java.time.LocalDateTime;
 
 import com.example.backend.model.IssueStatus;
 import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class IssueDto {
     private Long id;
     private String title;
@@ -19,4 +22,26 @@ public class IssueDto {
     private UserDto assignedTo;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+
+    /**
+     * Flat constructor used by JPQL "SELECT new" projections so list queries
+     * can fill the DTO directly from one joined row without loading entities.
+     */
+    public IssueDto(Long id, String title, String description,
+                    IssueStatus status, Priority priority,
+                    LocalDateTime createdAt, LocalDateTime updatedAt, Long version,
+                    Long createdById, String createdByName, Role createdByRole,
+                    Long assignedToId, String assignedToName, Role assignedToRole) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.createdBy = UserDto.of(createdById, createdByName, createdByRole);
+        this.assignedTo = UserDto.of(assignedToId, assignedToName, assignedToRole);
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.backend.dto;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.example.backend.exception.BusinessException;
+
+/**
+ * Fields a client can select with GET /api/issues?fields=..., each with the issue_view
+ * columns it needs. Only the selected columns are put in the SQL select list, so an
+ * unrequested description is never read or serialized.
+ */
+public enum IssueField {
+    ID("id", "v.id"),
+    TITLE("title", "v.title"),
+    DESCRIPTION("description", "v.description"),
+    STATUS("status", "v.status"),
+    PRIORITY("priority", "v.priority"),
+    CREATED_BY("createdBy", "v.created_by_id AS c_id, v.created_by_name AS c_name, v.created_by_role AS c_role"),
+    ASSIGNED_TO("assignedTo", "v.assigned_to_id AS a_id, v.assigned_to_name AS a_name, v.assigned_to_role AS a_role"),
+    CREATED_AT("createdAt", "v.created_at"),
+    UPDATED_AT("updatedAt", "v.updated_at"),
+    VERSION("version", "v.version");
+
+    private static final IssueField[] VALUES = values();
+
+    private final String jsonName;
+    private final String columns;
+
+    IssueField(String jsonName, String columns) {
+        this.jsonName = jsonName;
+        this.columns = columns;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parse a comma-separated field list
+     * @return Selected fields, or null (all fields) when the list is blank
+     */
+    public static Set<IssueField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<IssueField> selected = EnumSet.noneOf(IssueField.class);
+        for (String name : fields.split(",")) {
+            selected.add(byJsonName(name.trim()));
+        }
+        return selected;
+    }
+
+    /**
+     * Select list for the given fields; id and updated_at are always read since the keyset cursor needs them
+     */
+    public static String selectColumns(Set<IssueField> fields) {
+        StringBuilder columns = new StringBuilder("v.id, v.updated_at");
+        for (IssueField field : VALUES) {
+            if (field != ID && field != UPDATED_AT && (fields == null || fields.contains(field))) {
+                columns.append(", ").append(field.columns);
+            }
+        }
+        return columns.toString();
+    }
+
+    private static IssueField byJsonName(String name) {
+        for (IssueField field : VALUES) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new BusinessException("Unknown field '" + name + "'. Must be one of id, title, description, " +
+                "status, priority, createdBy, assignedTo, createdAt, updatedAt, version");
+    }
+}
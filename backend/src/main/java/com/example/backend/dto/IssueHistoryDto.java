@@ -0,0 +1,21 @@
+package com.example.backend.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.model.IssueStatus;
+
+import lombok.Data;
+
+@Data
+public class IssueHistoryDto {
+    private Long id;
+    private Long issueId;
+    private IssueChangedEvent.Type changeType;
+    private IssueStatus oldStatus;
+    private IssueStatus newStatus;
+    private Long oldAssigneeId;
+    private Long newAssigneeId;
+    private Long actorUserId;
+    private LocalDateTime occurredAt;
+}
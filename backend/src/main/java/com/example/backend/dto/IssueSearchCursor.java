@@ -0,0 +1,34 @@
+package com.example.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.backend.exception.BusinessException;
+
+/**
+ * Keyset position in the (rank DESC, id DESC) ordering of full-text search results.
+ */
+public record IssueSearchCursor(float rank, Long id) {
+
+    public static IssueSearchCursor of(IssueSearchHit hit) {
+        return new IssueSearchCursor(hit.rank(), hit.issue().getId());
+    }
+
+    public String encode() {
+        String raw = "q|" + rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IssueSearchCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !"q".equals(parts[0])) {
+                throw new IllegalArgumentException(token);
+            }
+            return new IssueSearchCursor(Float.parseFloat(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid cursor value");
+        }
+    }
+}
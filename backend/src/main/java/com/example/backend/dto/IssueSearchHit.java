@@ -0,0 +1,7 @@
+package com.example.backend.dto;
+
+/**
+ * One full-text search match together with its relevance score.
+ */
+public record IssueSearchHit(IssueDto issue, float rank) {
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import java.util.Map;
+
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+
+import lombok.Data;
+
+@Data
+public class IssueStatsDto {
+    private long total;
+    private long unassigned;
+    private Map<IssueStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<IssueStatus, Map<Priority, Long>> byStatusAndPriority;
+    // Keyed by assignee user ID
+    private Map<Long, Map<IssueStatus, Long>> byAssignee;
+}
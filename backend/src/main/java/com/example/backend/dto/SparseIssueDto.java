@@ -0,0 +1,13 @@
+package com.example.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * IssueDto read with a fields= selection. Serialized through the "issueFields" filter,
+ * which the controller sets to the selected fields so unread properties are left out.
+ */
+@JsonFilter(SparseIssueDto.FILTER)
+public class SparseIssueDto extends IssueDto {
+
+    public static final String FILTER = "issueFields";
+}
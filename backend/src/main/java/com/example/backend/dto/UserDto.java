@@ -9,4 +9,16 @@ public class UserDto {
     private Long id;
     private String name;
     private Role role;
+
+    // Returns null when the joined user is absent (e.g. unassigned issue)
+    public static UserDto of(Long id, String name, Role role) {
+        if (id == null) {
+            return null;
+        }
+        UserDto dto = new UserDto();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setRole(role);
+        return dto;
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Role;
+import com.example.backend.model.User;
+
+/**
+ * Immutable copy of a user's identity and role, safe to share from a cache.
+ */
+public record UserSummary(Long id, String name, Role role) {
+
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getRole());
+    }
+
+    /**
+     * Detached User carrying only this summary's fields, for use as a
+     * @ManyToOne reference without loading the row again.
+     */
+    public User toUser() {
+        User user = new User(name, role);
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AutoAssignIssueRequest {
+
+    @NotNull(message = "Assigned by user ID is required")
+    private Long assignedByUserId;
+}
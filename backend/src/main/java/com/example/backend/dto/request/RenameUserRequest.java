@@ -0,0 +1,13 @@
+package com.example.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RenameUserRequest {
+
+    @NotBlank(message = "User name cannot be empty")
+    private String name;
+}
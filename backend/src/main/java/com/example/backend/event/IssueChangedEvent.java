@@ -0,0 +1,47 @@
+package com.example.backend.event;
+
+import java.time.LocalDateTime;
+
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+
+/**
+ * Published by the issue write services inside their transaction.
+ * Listeners that keep derived state should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record IssueChangedEvent(
+        Type type,
+        Long issueId,
+        Priority priority,
+        IssueStatus oldStatus,
+        IssueStatus newStatus,
+        Long oldAssigneeId,
+        Long newAssigneeId,
+        Long actorUserId,
+        LocalDateTime occurredAt
+) {
+
+    public enum Type {
+        CREATED,
+        ASSIGNED,
+        STATUS_CHANGED
+    }
+
+    public static IssueChangedEvent created(Long issueId, Priority priority, Long creatorId) {
+        return new IssueChangedEvent(Type.CREATED, issueId, priority,
+                null, IssueStatus.OPEN, null, null, creatorId, LocalDateTime.now());
+    }
+
+    public static IssueChangedEvent assigned(Long issueId, Priority priority, IssueStatus status,
+                                             Long oldAssigneeId, Long newAssigneeId, Long assignerId) {
+        return new IssueChangedEvent(Type.ASSIGNED, issueId, priority,
+                status, status, oldAssigneeId, newAssigneeId, assignerId, LocalDateTime.now());
+    }
+
+    public static IssueChangedEvent statusChanged(Long issueId, Priority priority, Long assigneeId,
+                                                  IssueStatus oldStatus, IssueStatus newStatus, Long userId) {
+        return new IssueChangedEvent(Type.STATUS_CHANGED, issueId, priority,
+                oldStatus, newStatus, assigneeId, assigneeId, userId, LocalDateTime.now());
+    }
+}
@@ -1,8 +1,27 @@
 package com.example.backend.exception;
 
 
+/**
+ * Rejection of a request by a business rule.
+ * Stackless: rejections are expected control flow (bulk scripts can hit them more often
+ * than they succeed) and the trace is never logged, so it is not captured. Suppression
+ * is disabled as well, which makes instances immutable and safe to preallocate and
+ * rethrow when the message is constant.
+ */
 public class BusinessException extends RuntimeException {
+
+    private final ErrorCode code;
+
     public BusinessException(String message) {
-        super(message);
+        this(ErrorCode.INVALID_REQUEST, message);
+    }
+
+    public BusinessException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
     }
 }
@@ -0,0 +1,20 @@
+package com.example.backend.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown by the database bulkhead when no connection permit frees up within the wait
+ * budget. Surfaces as HTTP 503 (ErrorCode.DATABASE_BUSY). Stackless, like BusinessException:
+ * under overload it is thrown at a high rate and the trace carries no information.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
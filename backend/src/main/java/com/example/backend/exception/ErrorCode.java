@@ -0,0 +1,56 @@
+package com.example.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Machine-readable reason for a rejected request, returned as ApiResponse.errorCode
+ * and counted per code by ErrorCodeCounters.
+ */
+public enum ErrorCode {
+
+    // Request shape
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST),
+    METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED),
+
+    // Lookups
+    ISSUE_NOT_FOUND(HttpStatus.BAD_REQUEST),
+    USER_NOT_FOUND(HttpStatus.BAD_REQUEST),
+    DUPLICATE_USER(HttpStatus.BAD_REQUEST),
+
+    // Issue creation
+    CREATOR_NOT_ALLOWED(HttpStatus.BAD_REQUEST),
+
+    // Status transitions
+    INVALID_TRANSITION(HttpStatus.BAD_REQUEST),
+    NOT_ASSIGNED(HttpStatus.BAD_REQUEST),
+    NOT_ASSIGNEE(HttpStatus.BAD_REQUEST),
+    ROLE_NOT_ALLOWED(HttpStatus.BAD_REQUEST),
+
+    // Assignment
+    ASSIGNEE_NOT_DEVELOPER(HttpStatus.BAD_REQUEST),
+    ASSIGNER_NOT_ALLOWED(HttpStatus.BAD_REQUEST),
+    ASSIGN_CLOSED(HttpStatus.BAD_REQUEST),
+    ASSIGN_RESOLVED(HttpStatus.BAD_REQUEST),
+    NO_DEVELOPER_AVAILABLE(HttpStatus.CONFLICT),
+
+    // Concurrency
+    VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT),
+
+    // Overload
+    DATABASE_BUSY(HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_SUBSCRIBERS(HttpStatus.SERVICE_UNAVAILABLE),
+
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+
+    ErrorCode(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
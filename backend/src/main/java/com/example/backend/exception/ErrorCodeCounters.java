@@ -0,0 +1,65 @@
+package com.example.backend.exception;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Number of rejections per error code since startup, including per-item errors
+ * reported by bulk requests.
+ */
+@Component
+public class ErrorCodeCounters implements MeterBinder {
+
+    private static final ErrorCode[] CODES = ErrorCode.values();
+
+    private final LongAdder[] counts = new LongAdder[CODES.length];
+
+    public ErrorCodeCounters() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    // Exported as app.rejections{code=...}
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ErrorCode code : CODES) {
+            FunctionCounter.builder("app.rejections", counts[code.ordinal()], LongAdder::sum)
+                    .description("Requests or bulk items rejected, by error code")
+                    .tag("code", code.name())
+                    .register(registry);
+        }
+    }
+
+    public void increment(ErrorCode code) {
+        counts[code.ordinal()].increment();
+    }
+
+    public long count(ErrorCode code) {
+        return counts[code.ordinal()].sum();
+    }
+
+    // Codes seen at least once, most frequent first
+    public Map<ErrorCode, Long> snapshot() {
+        Map<ErrorCode, Long> totals = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode code : CODES) {
+            long count = count(code);
+            if (count > 0) {
+                totals.put(code, count);
+            }
+        }
+        Map<ErrorCode, Long> snapshot = new LinkedHashMap<>();
+        totals.entrySet().stream()
+                .sorted(Map.Entry.<ErrorCode, Long>comparingByValue().reversed())
+                .forEach(e -> snapshot.put(e.getKey(), e.getValue()));
+        return snapshot;
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.backend.exception;
 
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,12 +12,16 @@ import com.example.backend.dto.ApiResponse;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    // Business rule errors → 400
+    private final ErrorCodeCounters errorCounters;
+
+    public GlobalExceptionHandler(ErrorCodeCounters errorCounters) {
+        this.errorCounters = errorCounters;
+    }
+
+    // Business rule errors → status of the error code (400, or 412 for a stale If-Match)
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Object>> handleBusinessException(BusinessException ex) {
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(ex.getMessage()));
+        return error(ex.getCode(), ex.getMessage());
     }
 
     // Validation errors → 400
@@ -32,9 +36,7 @@ public class GlobalExceptionHandler {
                 .map(err -> err.getDefaultMessage())
                 .orElse("Validation error");
 
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(errorMessage));
+        return error(ErrorCode.VALIDATION_FAILED, errorMessage);
     }
 
     // Method not allowed → 405
@@ -42,17 +44,38 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleMethodNotSupported(
             HttpRequestMethodNotSupportedException ex) {
 
-        return ResponseEntity
-                .status(HttpStatus.METHOD_NOT_ALLOWED)
-                .body(ApiResponse.error("Request method not supported"));
+        return error(ErrorCode.METHOD_NOT_ALLOWED, "Request method not supported");
     }
 
-    // Generic errors → 500
+    // Generic errors → 500, or 503 when the database bulkhead turned the request away
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleGenericException(Exception ex) {
 
+        DatabaseBusyException busy = findCause(ex, DatabaseBusyException.class);
+        if (busy != null) {
+            errorCounters.increment(ErrorCode.DATABASE_BUSY);
+            return ResponseEntity
+                    .status(ErrorCode.DATABASE_BUSY.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error(ErrorCode.DATABASE_BUSY, busy.getMessage()));
+        }
+        return error(ErrorCode.INTERNAL_ERROR, "Unexpected internal server error");
+    }
+
+    // Data access failures arrive wrapped by Hibernate and Spring, so look down the cause chain
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (type.isInstance(t)) {
+                return type.cast(t);
+            }
+        }
+        return null;
+    }
+
+    private ResponseEntity<ApiResponse<Object>> error(ErrorCode code, String message) {
+        errorCounters.increment(code);
         return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error("Unexpected internal server error"));
+                .status(code.getStatus())
+                .body(ApiResponse.error(code, message));
     }
 }
\ No newline at end of file
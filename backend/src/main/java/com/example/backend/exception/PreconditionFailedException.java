@@ -0,0 +1,11 @@
+package com.example.backend.exception;
+
+
+/**
+ * Thrown when a client's If-Match version no longer matches the issue (HTTP 412).
+ */
+public class PreconditionFailedException extends BusinessException {
+    public PreconditionFailedException(String message) {
+        super(ErrorCode.VERSION_MISMATCH, message);
+    }
+}
@@ -19,6 +19,7 @@ public class IssueMapper {
         dto.setPriority(issue.getPriority());
         dto.setCreatedAt(issue.getCreatedAt());
         dto.setUpdatedAt(issue.getUpdatedAt());
+        dto.setVersion(issue.getVersion());
 
         if (issue.getCreatedBy() != null) {
             UserDto createdByDto = new UserDto();
@@ -14,7 +14,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -25,7 +27,9 @@ import lombok.NoArgsConstructor;
 public class Issue {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence (pooled-lo optimizer) so inserts can be JDBC-batched
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issues_seq")
+    @SequenceGenerator(name = "issues_seq", sequenceName = "issues_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -51,8 +55,14 @@ public class Issue {
     private User assignedTo;
     
     private LocalDateTime createdAt = LocalDateTime.now();
+    @Column(nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
     
+    // Optimistic lock; also served as the ETag of the issue
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+
     @PreUpdate
     public void onUpdate() {
         this.updatedAt = LocalDateTime.now();
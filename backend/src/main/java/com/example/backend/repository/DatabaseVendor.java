@@ -0,0 +1,48 @@
+package com.example.backend.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The few statements that differ between PostgreSQL and the H2 database (PostgreSQL mode)
+ * used in tests and local runs. Resolved on first use, so startup needs no connection.
+ */
+@Component
+public class DatabaseVendor {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgreSql;
+
+    public DatabaseVendor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isPostgreSql() {
+        Boolean result = postgreSql;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgreSql = result;
+        }
+        return result;
+    }
+
+    /**
+     * Row lock that blocks writers but not other readers taking the same lock.
+     * H2 has no FOR SHARE and falls back to FOR UPDATE.
+     */
+    public String shareLock() {
+        return isPostgreSql() ? " FOR SHARE" : " FOR UPDATE";
+    }
+
+    /**
+     * Take a lock shared by every instance until the current transaction ends, or return false
+     * when another transaction holds it. H2 only ever has one instance, so it always succeeds.
+     */
+    public boolean tryTransactionLock(long key) {
+        return !isPostgreSql() || Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, key));
+    }
+}
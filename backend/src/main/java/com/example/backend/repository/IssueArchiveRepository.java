@@ -0,0 +1,100 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+
+/**
+ * Moves closed issues into the issue_archive table (V8__issue_archive.sql) and keeps the
+ * copied user names current. Archived rows have the issue_view column names, so the list,
+ * search and export queries can read them with {@link IssueDtoRowMapper#VIEW_SELECT_COLUMNS}.
+ */
+@Repository
+public class IssueArchiveRepository {
+
+    public static final String FROM_ARCHIVE = "FROM issue_archive v";
+
+    private static final String COLUMNS =
+            "id, title, description, status, priority, created_at, updated_at, version, " +
+            "created_by_id, created_by_name, created_by_role, assigned_to_id, assigned_to_name, assigned_to_role";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private DatabaseVendor databaseVendor;
+
+    /**
+     * Whether a query with this status filter has to read the archive as well: always for
+     * CLOSED, and for an unfiltered status when archived issues were asked for explicitly.
+     * Every archived issue is CLOSED, so any other status never needs it.
+     */
+    public static boolean covers(IssueStatus status, boolean includeArchived) {
+        return status == IssueStatus.CLOSED || (status == null && includeArchived);
+    }
+
+    /**
+     * Lock the IDs of the oldest issues closed before the cutoff. SKIP LOCKED lets a second
+     * archiver (another instance) take the next rows instead of waiting on these.
+     */
+    public List<Long> lockClosedBefore(LocalDateTime cutoff, int limit) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT id FROM issues WHERE status = :status AND updated_at < :cutoff " +
+                "ORDER BY updated_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+                Map.of("status", IssueStatus.CLOSED.name(), "cutoff", cutoff, "limit", limit),
+                Long.class);
+    }
+
+    /**
+     * Copy the given (locked, CLOSED) issues into the archive and delete them from
+     * issue_view and issues. The archived row gets a change token from the sequencer, which
+     * delta sync reports as a removal. The users named in the copied rows are locked like in
+     * {@link IssueViewRepository#refresh}, so a concurrent rename cannot miss them.
+     * @return Number of issues moved
+     */
+    public int moveToArchive(List<Long> issueIds, LocalDateTime archivedAt) {
+        Map<String, Object> params = Map.of("ids", issueIds, "archivedAt", archivedAt);
+        namedJdbcTemplate.queryForList(IssueViewRepository.LOCK_USERS + databaseVendor.shareLock(), params, Long.class);
+        namedJdbcTemplate.update(
+                "INSERT INTO issue_archive (" + COLUMNS + ", archived_at, changed_at) " +
+                "SELECT " + COLUMNS + ", :archivedAt, :archivedAt " +
+                "FROM issue_view WHERE id IN (:ids)", params);
+        namedJdbcTemplate.update("DELETE FROM issue_view WHERE id IN (:ids)", params);
+        return namedJdbcTemplate.update("DELETE FROM issues WHERE id IN (:ids)", params);
+    }
+
+    /**
+     * Archived issue counts for the dashboard reconciliation: [priority, assigneeId, count]
+     */
+    public List<Object[]> countByPriorityAndAssignee() {
+        return namedJdbcTemplate.getJdbcTemplate().query(
+                "SELECT priority, assigned_to_id, COUNT(*) FROM issue_archive GROUP BY priority, assigned_to_id",
+                (rs, rowNum) -> new Object[] {
+                        Priority.valueOf(rs.getString(1)), rs.getObject(2, Long.class), rs.getLong(3) });
+    }
+
+    /**
+     * Propagate a user rename to archived issues they created or were assigned to.
+     */
+    public void renameUser(Long userId, String name) {
+        Map<String, Object> params = Map.of("userId", userId, "name", name);
+        namedJdbcTemplate.update("UPDATE issue_archive SET created_by_name = :name WHERE created_by_id = :userId", params);
+        namedJdbcTemplate.update("UPDATE issue_archive SET assigned_to_name = :name WHERE assigned_to_id = :userId", params);
+    }
+
+    /**
+     * Give every committed archive row still waiting for a change token the next one.
+     * @return Number of rows numbered
+     */
+    public int numberPendingChanges() {
+        return namedJdbcTemplate.getJdbcTemplate().update(
+                "UPDATE issue_archive SET change_seq = nextval('issue_change_seq') WHERE change_seq IS NULL");
+    }
+}
\ No newline at end of file
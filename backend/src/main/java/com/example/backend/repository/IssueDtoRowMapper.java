@@ -0,0 +1,93 @@
+package com.example.backend.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.backend.dto.IssueDto;
+import com.example.backend.dto.IssueField;
+import com.example.backend.dto.SparseIssueDto;
+import com.example.backend.dto.UserDto;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+
+/**
+ * Maps a row of {@link #VIEW_SELECT_COLUMNS} straight into
+ * an IssueDto for plain JDBC read paths.
+ */
+public class IssueDtoRowMapper implements RowMapper<IssueDto> {
+
+    public static final IssueDtoRowMapper INSTANCE = new IssueDtoRowMapper();
+
+    // Issue and user columns read from the denormalized issue_view, without joins
+    public static final String VIEW_SELECT_COLUMNS =
+            "v.id, v.title, v.description, v.status, v.priority, v.created_at, v.updated_at, v.version, " +
+            "v.created_by_id AS c_id, v.created_by_name AS c_name, v.created_by_role AS c_role, " +
+            "v.assigned_to_id AS a_id, v.assigned_to_name AS a_name, v.assigned_to_role AS a_role";
+
+    public static final String FROM_VIEW = "FROM issue_view v";
+
+    @Override
+    public IssueDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String assigneeRole = rs.getString("a_role");
+        return new IssueDto(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                IssueStatus.valueOf(rs.getString("status")),
+                Priority.valueOf(rs.getString("priority")),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                rs.getLong("version"),
+                rs.getLong("c_id"),
+                rs.getString("c_name"),
+                Role.valueOf(rs.getString("c_role")),
+                rs.getObject("a_id", Long.class),
+                rs.getString("a_name"),
+                assigneeRole != null ? Role.valueOf(assigneeRole) : null
+        );
+    }
+
+    /**
+     * Mapper for a select list built by {@link IssueField#selectColumns}; with a field
+     * selection only those columns are read, into a {@link SparseIssueDto}.
+     */
+    public static RowMapper<IssueDto> forFields(Set<IssueField> fields) {
+        if (fields == null) {
+            return INSTANCE;
+        }
+        return (rs, rowNum) -> {
+            SparseIssueDto dto = new SparseIssueDto();
+            dto.setId(rs.getLong("id"));
+            dto.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+            for (IssueField field : fields) {
+                switch (field) {
+                    case TITLE -> dto.setTitle(rs.getString("title"));
+                    case DESCRIPTION -> dto.setDescription(rs.getString("description"));
+                    case STATUS -> dto.setStatus(IssueStatus.valueOf(rs.getString("status")));
+                    case PRIORITY -> dto.setPriority(Priority.valueOf(rs.getString("priority")));
+                    case CREATED_BY -> dto.setCreatedBy(UserDto.of(rs.getLong("c_id"), rs.getString("c_name"),
+                            Role.valueOf(rs.getString("c_role"))));
+                    case ASSIGNED_TO -> {
+                        String role = rs.getString("a_role");
+                        dto.setAssignedTo(UserDto.of(rs.getObject("a_id", Long.class), rs.getString("a_name"),
+                                role != null ? Role.valueOf(role) : null));
+                    }
+                    case CREATED_AT -> dto.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+                    case VERSION -> dto.setVersion(rs.getLong("version"));
+                    case ID, UPDATED_AT -> { }
+                }
+            }
+            return dto;
+        };
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
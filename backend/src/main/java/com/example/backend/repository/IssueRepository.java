@@ -1,7 +1,9 @@
 package com.example.backend.repository;
 
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,22 +11,27 @@ import org.springframework.stereotype.Repository;
 
 import com.example.backend.model.Issue;
 import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
 import com.example.backend.model.User;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, IssueRepositoryCustom {
     
     List<Issue> findByStatus(IssueStatus status);
     List<Issue> findByAssignedTo(User user);
     List<Issue> findByCreatedBy(User user);
     
-    @Query("SELECT i FROM Issue i WHERE " +
-           "(COALESCE(:status, null) IS NULL OR i.status = :status) AND " +
-           "(COALESCE(:assignedUserId, null) IS NULL OR i.assignedTo.id = :assignedUserId) AND " +
-           "(COALESCE(:createdUserId, null) IS NULL OR i.createdBy.id = :createdUserId)")
-    List<Issue> findFiltered(
-        IssueStatus status, 
-        Long assignedUserId, 
-        Long createdUserId
-    );
+    // Dashboard counter reconciliation: one row per (status, priority, assignee) cell
+    @Query("SELECT i.status, i.priority, a.id, COUNT(i) FROM Issue i LEFT JOIN i.assignedTo a " +
+           "GROUP BY i.status, i.priority, a.id")
+    List<Object[]> countByStatusPriorityAndAssignee();
+
+    // Auto-assign workload reconciliation: one row per (assignee, status, priority) of assigned issues
+    @Query("SELECT a.id, i.status, i.priority, COUNT(i) FROM Issue i JOIN i.assignedTo a " +
+           "WHERE i.status IN :statuses GROUP BY a.id, i.status, i.priority")
+    List<Object[]> countActiveByAssignee(Collection<IssueStatus> statuses);
+
+    // Auto-assign needs the priority to reserve its weight before the guarded UPDATE
+    @Query("SELECT i.priority FROM Issue i WHERE i.id = :issueId")
+    Optional<Priority> findPriorityById(Long issueId);
 }
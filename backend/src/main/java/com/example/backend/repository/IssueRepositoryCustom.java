@@ -0,0 +1,109 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.backend.dto.IssueChange;
+import com.example.backend.dto.IssueCursor;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.dto.IssueField;
+import com.example.backend.dto.IssueSearchCursor;
+import com.example.backend.dto.IssueSearchHit;
+import com.example.backend.model.Issue;
+import com.example.backend.model.IssueStatus;
+
+/**
+ * Issue queries and writes that are assembled at runtime instead of declared with @Query.
+ */
+public interface IssueRepositoryCustom {
+
+    /**
+     * One keyset page of issues ordered by (updatedAt DESC, id DESC), read into IssueDto from
+     * the denormalized issue_view without joins. Only the filters that are non-null end up
+     * in the SQL, so each combination gets its own plan and can use the matching composite index.
+     * @param fields Columns to read (see IssueField), or null for all
+     * @param includeArchived Also read issue_archive; it is always read for status CLOSED
+     */
+    List<IssueDto> findFilteredPage(
+        IssueStatus status,
+        Long assignedUserId,
+        Long createdUserId,
+        IssueCursor after,
+        int limit,
+        Set<IssueField> fields,
+        boolean includeArchived
+    );
+
+    default List<IssueDto> findFilteredPage(
+        IssueStatus status,
+        Long assignedUserId,
+        Long createdUserId,
+        IssueCursor after,
+        int limit
+    ) {
+        return findFilteredPage(status, assignedUserId, createdUserId, after, limit, null, false);
+    }
+
+    /**
+     * One page of full-text matches on title and description, best match first.
+     * Backed by the GIN-indexed search_vector column on PostgreSQL; other databases (H2) fall
+     * back to an unindexed word match on title and description.
+     * @param fields Columns to read (see IssueField), or null for all
+     * @param includeArchived Also search issue_archive; it is always searched for status CLOSED
+     */
+    List<IssueSearchHit> searchPage(
+        String query,
+        IssueStatus status,
+        Long assignedUserId,
+        Long createdUserId,
+        IssueSearchCursor after,
+        int limit,
+        Set<IssueField> fields,
+        boolean includeArchived
+    );
+
+    /**
+     * Changes with a change token greater than afterSeq, lowest first: live issues as they
+     * are now (issue_view) and archived issues as removals (issue_archive). Both are range
+     * scans on the unique change_seq indexes. Rows still waiting for a token are left out.
+     * @param fields Columns to read for live issues (see IssueField), or null for all
+     */
+    List<IssueChange> findChangesAfter(long afterSeq, int limit, Set<IssueField> fields);
+
+    // Guarded single-statement writes: each applies the change only when every rule holds and,
+    // with an expected version (If-Match), the version still matches, bumping it. Nothing is
+    // read first; the issue comes back as it was before the UPDATE, with users carrying only
+    // their IDs, or empty when the UPDATE matched no row.
+
+    /**
+     * Assign when the issue is OPEN or IN_PROGRESS, the assignee a DEVELOPER and the assigner
+     * an ADMIN or TESTER
+     * @param expectedVersion Version the client has seen, or null to skip the check
+     */
+    Optional<Issue> assignIfAllowed(
+        Long issueId,
+        Long assigneeId,
+        Long assignerId,
+        Long expectedVersion,
+        LocalDateTime now
+    );
+
+    /**
+     * Move from currentStatus to newStatus when the acting user has one of the roles and,
+     * if assigneeOnly, is the assignee
+     * @param expectedVersion Version the client has seen, or null to skip the check
+     */
+    Optional<Issue> updateStatusIfAllowed(
+        Long issueId,
+        Long expectedVersion,
+        IssueStatus currentStatus,
+        IssueStatus newStatus,
+        Long userId,
+        boolean assigneeOnly,
+        Collection<String> roles,
+        LocalDateTime now
+    );
+}
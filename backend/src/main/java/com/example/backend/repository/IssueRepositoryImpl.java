@@ -0,0 +1,260 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.example.backend.dto.IssueChange;
+import com.example.backend.dto.IssueCursor;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.dto.IssueField;
+import com.example.backend.dto.IssueSearchCursor;
+import com.example.backend.dto.IssueSearchHit;
+import com.example.backend.model.Issue;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.model.User;
+
+public class IssueRepositoryImpl implements IssueRepositoryCustom {
+
+    // Ranked full-text match; the tsquery is parsed once and shared by the filter and ts_rank.
+    // Only the search vector comes from issues, everything returned comes from the view.
+    static final String SEARCH_FROM =
+            ", ts_rank(i.search_vector, q.query) AS rank " +
+            IssueDtoRowMapper.FROM_VIEW + " JOIN issues i ON i.id = v.id " +
+            "CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) " +
+            "WHERE i.search_vector @@ q.query";
+
+    // Archived rows carry their own search vector (PostgreSQL V9)
+    static final String ARCHIVE_SEARCH_FROM =
+            ", ts_rank(v.search_vector, q.query) AS rank " +
+            IssueArchiveRepository.FROM_ARCHIVE + " " +
+            "CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) " +
+            "WHERE v.search_vector @@ q.query";
+
+    // LIKE wildcards in a search word are matched literally
+    private static final String LIKE_ESCAPE = " ESCAPE '\\'";
+
+    // The issues columns handed back by the guarded writes
+    private static final String ISSUE_COLUMNS =
+            "id, title, description, status, priority, created_by_id, assigned_to_id, created_at, updated_at, version";
+
+    private static final RowMapper<Issue> PREVIOUS_ISSUE = (rs, rowNum) -> {
+        Issue issue = new Issue();
+        issue.setId(rs.getLong("id"));
+        issue.setTitle(rs.getString("title"));
+        issue.setDescription(rs.getString("description"));
+        issue.setStatus(IssueStatus.valueOf(rs.getString("status")));
+        issue.setPriority(Priority.valueOf(rs.getString("priority")));
+        issue.setCreatedBy(userReference(rs.getObject("created_by_id", Long.class)));
+        issue.setAssignedTo(userReference(rs.getObject("assigned_to_id", Long.class)));
+        issue.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        issue.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        issue.setVersion(rs.getLong("version"));
+        return issue;
+    };
+
+    private static final String PAGE_ORDER = " ORDER BY v.updated_at DESC, v.id DESC LIMIT :limit";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    // Only PostgreSQL has the tsvector search columns (V3/V9)
+    @Autowired
+    private DatabaseVendor databaseVendor;
+
+    @Override
+    public List<IssueDto> findFilteredPage(
+            IssueStatus status,
+            Long assignedUserId,
+            Long createdUserId,
+            IssueCursor after,
+            int limit,
+            Set<IssueField> fields,
+            boolean includeArchived
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        appendFilters(where, status, assignedUserId, createdUserId, params);
+        if (after != null) {
+            // Row-value comparison keeps the seek a single index range condition
+            where.append(" AND (v.updated_at, v.id) < (:afterUpdatedAt, :afterId)");
+            params.addValue("afterUpdatedAt", after.updatedAt());
+            params.addValue("afterId", after.id());
+        }
+
+        // Single-table read from the denormalized view: user names and roles are already on the row
+        String columns = "SELECT " + IssueField.selectColumns(fields) + ' ';
+        String live = columns + IssueDtoRowMapper.FROM_VIEW + where + PAGE_ORDER;
+        String sql = live;
+        if (IssueArchiveRepository.covers(status, includeArchived)) {
+            // Each table yields at most one page from its own index; only those rows are merged
+            sql = "SELECT * FROM ((" + live + ") UNION ALL (" +
+                    columns + IssueArchiveRepository.FROM_ARCHIVE + where + PAGE_ORDER + ")) v" + PAGE_ORDER;
+        }
+
+        return namedJdbcTemplate.query(sql, params, IssueDtoRowMapper.forFields(fields));
+    }
+
+    @Override
+    public List<IssueSearchHit> searchPage(
+            String query,
+            IssueStatus status,
+            Long assignedUserId,
+            Long createdUserId,
+            IssueSearchCursor after,
+            int limit,
+            Set<IssueField> fields,
+            boolean includeArchived
+    ) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", query);
+        boolean fullText = databaseVendor.isPostgreSql();
+        StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT ")
+                .append(IssueField.selectColumns(fields))
+                .append(fullText ? SEARCH_FROM : likeSearchFrom(IssueDtoRowMapper.FROM_VIEW, query, params));
+        appendFilters(sql, status, assignedUserId, createdUserId, params);
+        if (IssueArchiveRepository.covers(status, includeArchived)) {
+            sql.append(" UNION ALL SELECT ").append(IssueField.selectColumns(fields))
+                    .append(fullText ? ARCHIVE_SEARCH_FROM
+                            : likeSearchFrom(IssueArchiveRepository.FROM_ARCHIVE, query, params));
+            appendFilters(sql, status, assignedUserId, createdUserId, params);
+        }
+        sql.append(") s");
+        if (after != null) {
+            sql.append(" WHERE s.rank < :afterRank OR (s.rank = :afterRank AND s.id < :afterId)");
+            params.addValue("afterRank", after.rank());
+            params.addValue("afterId", after.id());
+        }
+        sql.append(" ORDER BY s.rank DESC, s.id DESC LIMIT :limit");
+        params.addValue("limit", limit);
+
+        RowMapper<IssueDto> mapper = IssueDtoRowMapper.forFields(fields);
+        return namedJdbcTemplate.query(sql.toString(), params, (rs, rowNum) ->
+                new IssueSearchHit(mapper.mapRow(rs, rowNum), rs.getFloat("rank")));
+    }
+
+    @Override
+    public List<IssueChange> findChangesAfter(long afterSeq, int limit, Set<IssueField> fields) {
+        String columns = "SELECT " + IssueField.selectColumns(fields) + ", v.change_seq, ";
+        String where = " WHERE v.change_seq > :afterSeq ORDER BY v.change_seq LIMIT :limit";
+        String sql = "SELECT * FROM ((" +
+                columns + "FALSE AS removed " + IssueDtoRowMapper.FROM_VIEW + where + ") UNION ALL (" +
+                columns + "TRUE AS removed " + IssueArchiveRepository.FROM_ARCHIVE + where + ")) c " +
+                "ORDER BY c.change_seq LIMIT :limit";
+        MapSqlParameterSource params = new MapSqlParameterSource("afterSeq", afterSeq).addValue("limit", limit);
+
+        RowMapper<IssueDto> mapper = IssueDtoRowMapper.forFields(fields);
+        return namedJdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            boolean removed = rs.getBoolean("removed");
+            return new IssueChange(rs.getLong("id"), removed ? null : mapper.mapRow(rs, rowNum), rs.getLong("change_seq"), removed);
+        });
+    }
+
+    @Override
+    public Optional<Issue> assignIfAllowed(Long issueId, Long assigneeId, Long assignerId, Long expectedVersion,
+                                           LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("issueId", issueId)
+                .addValue("assigneeId", assigneeId)
+                .addValue("assignerId", assignerId)
+                .addValue("now", now);
+        String guards = "i.id = :issueId AND i.status IN ('OPEN', 'IN_PROGRESS') " +
+                "AND EXISTS (SELECT 1 FROM users u WHERE u.id = :assigneeId AND u.role = 'DEVELOPER') " +
+                "AND EXISTS (SELECT 1 FROM users u WHERE u.id = :assignerId AND u.role IN ('ADMIN', 'TESTER'))" +
+                versionGuard(expectedVersion, params);
+        return updateReturningPrevious(
+                "assigned_to_id = :assigneeId, updated_at = :now, version = i.version + 1", guards, params);
+    }
+
+    @Override
+    public Optional<Issue> updateStatusIfAllowed(Long issueId, Long expectedVersion, IssueStatus currentStatus,
+                                                 IssueStatus newStatus, Long userId, boolean assigneeOnly,
+                                                 Collection<String> roles, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("issueId", issueId)
+                .addValue("currentStatus", currentStatus.name())
+                .addValue("newStatus", newStatus.name())
+                .addValue("userId", userId)
+                .addValue("roles", roles)
+                .addValue("now", now);
+        String guards = "i.id = :issueId AND i.status = :currentStatus " +
+                "AND EXISTS (SELECT 1 FROM users u WHERE u.id = :userId AND u.role IN (:roles))" +
+                (assigneeOnly ? " AND i.assigned_to_id = :userId" : "") +
+                versionGuard(expectedVersion, params);
+        return updateReturningPrevious(
+                "status = :newStatus, updated_at = :now, version = i.version + 1", guards, params);
+    }
+
+    // Without If-Match the rules alone decide; a concurrent change cannot be lost, the UPDATE is atomic
+    private static String versionGuard(Long expectedVersion, MapSqlParameterSource params) {
+        if (expectedVersion == null) {
+            return "";
+        }
+        params.addValue("expectedVersion", expectedVersion);
+        return " AND i.version = :expectedVersion";
+    }
+
+    // One statement that updates the issue and returns its previous row. PostgreSQL joins a locked
+    // copy of the row into the UPDATE and returns that; H2 has no RETURNING but reads the OLD TABLE.
+    private Optional<Issue> updateReturningPrevious(String set, String guards, MapSqlParameterSource params) {
+        String sql = databaseVendor.isPostgreSql()
+                ? "UPDATE issues i SET " + set + " FROM (SELECT " + ISSUE_COLUMNS + " FROM issues " +
+                  "WHERE id = :issueId FOR UPDATE) o WHERE i.id = o.id AND " + guards + " RETURNING o.*"
+                : "SELECT " + ISSUE_COLUMNS + " FROM OLD TABLE (UPDATE issues i SET " + set + " WHERE " + guards + ")";
+        return namedJdbcTemplate.query(sql, params, PREVIOUS_ISSUE).stream().findFirst();
+    }
+
+    private static User userReference(Long id) {
+        if (id == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    // Unindexed fallback where there is no tsvector (H2 in tests and local runs): every word of the
+    // query has to occur in the title or description, and each word found in the title ranks above
+    // one found only in the description, like the A/B weights of the search vector. No stemming and
+    // no websearch operators; quotes are dropped and every other word is taken literally.
+    private static String likeSearchFrom(String from, String query, MapSqlParameterSource params) {
+        List<String> words = Arrays.stream(query.replace("\"", " ").toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+        StringBuilder rank = new StringBuilder("CAST(0");
+        // Like an empty tsquery, a query without words matches nothing
+        StringBuilder match = new StringBuilder(words.isEmpty() ? " WHERE 1 = 0" : " WHERE 1 = 1");
+        for (int w = 0; w < words.size(); w++) {
+            String title = "LOWER(v.title) LIKE :word" + w + LIKE_ESCAPE;
+            String description = "LOWER(v.description) LIKE :word" + w + LIKE_ESCAPE;
+            rank.append(" + CASE WHEN ").append(title).append(" THEN 2 ELSE 1 END");
+            match.append(" AND (").append(title).append(" OR ").append(description).append(')');
+            params.addValue("word" + w, "%" + words.get(w).replaceAll("[\\\\%_]", "\\\\$0") + "%");
+        }
+        return ", " + rank + " AS REAL) AS rank " + from + match;
+    }
+
+    // Only the filters that are non-null end up in the SQL; the same names bind every branch
+    private static void appendFilters(StringBuilder sql, IssueStatus status, Long assignedUserId,
+                                      Long createdUserId, MapSqlParameterSource params) {
+        if (status != null) {
+            sql.append(" AND v.status = :status");
+            params.addValue("status", status.name());
+        }
+        if (assignedUserId != null) {
+            sql.append(" AND v.assigned_to_id = :assignedUserId");
+            params.addValue("assignedUserId", assignedUserId);
+        }
+        if (createdUserId != null) {
+            sql.append(" AND v.created_by_id = :createdUserId");
+            params.addValue("createdUserId", createdUserId);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes to the denormalized issue_view table (V7__issue_view.sql).
+ * Rows are always re-copied from issues + users rather than patched field by field,
+ * so the view cannot drift from what the write actually committed. The copied user
+ * rows stay locked until commit, so a concurrent rename either lands before the copy
+ * or waits for it and then renames the copied rows too.
+ */
+@Repository
+public class IssueViewRepository {
+
+    // Keeps IN lists well below driver and planner limits on bulk creates
+    private static final int CHUNK_SIZE = 500;
+
+    // Copied rows wait for a change token from the sequencer (V10__issue_change_seq.sql)
+    private static final String COPY =
+            "INSERT INTO issue_view (id, title, description, status, priority, created_at, updated_at, version, " +
+            "created_by_id, created_by_name, created_by_role, assigned_to_id, assigned_to_name, assigned_to_role, " +
+            "changed_at) " +
+            "SELECT i.id, i.title, i.description, i.status, i.priority, i.created_at, i.updated_at, i.version, " +
+            "c.id, c.name, c.role, a.id, a.name, a.role, :changedAt " +
+            "FROM issues i JOIN users c ON c.id = i.created_by_id " +
+            "LEFT JOIN users a ON a.id = i.assigned_to_id";
+
+    // Creators and assignees of :ids, locked in ID order so concurrent refreshes cannot deadlock
+    static final String LOCK_USERS =
+            "SELECT u.id FROM users u WHERE u.id IN (" +
+            "SELECT created_by_id FROM issues WHERE id IN (:ids) " +
+            "UNION SELECT assigned_to_id FROM issues WHERE id IN (:ids)) ORDER BY u.id";
+
+    private static final String NEXT_CHANGE = "change_seq = NULL, changed_at = :changedAt";
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private DatabaseVendor databaseVendor;
+
+    /**
+     * Re-copy the given issues into the view; IDs no longer in issues are removed from it.
+     */
+    public void refresh(Collection<Long> issueIds) {
+        List<Map<String, Object>> chunks = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(issueIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            Map<String, Object> params = Map.of("ids", ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())),
+                    "changedAt", LocalDateTime.now());
+            namedJdbcTemplate.queryForList(LOCK_USERS + databaseVendor.shareLock(), params, Long.class);
+            chunks.add(params);
+        }
+        for (Map<String, Object> params : chunks) {
+            namedJdbcTemplate.update("DELETE FROM issue_view WHERE id IN (:ids)", params);
+            namedJdbcTemplate.update(COPY + " WHERE i.id IN (:ids)", params);
+        }
+    }
+
+    /**
+     * Propagate a user rename to every issue they created or are assigned to. The renamed
+     * users row must already be updated in this transaction, so its lock is held.
+     */
+    public void renameUser(Long userId, String name) {
+        Map<String, Object> params = Map.of("userId", userId, "name", name, "changedAt", LocalDateTime.now());
+        namedJdbcTemplate.update("UPDATE issue_view SET created_by_name = :name, " + NEXT_CHANGE +
+                " WHERE created_by_id = :userId", params);
+        namedJdbcTemplate.update("UPDATE issue_view SET assigned_to_name = :name, " + NEXT_CHANGE +
+                " WHERE assigned_to_id = :userId", params);
+    }
+
+    /**
+     * Give every committed row still waiting for a change token the next one.
+     * @return Number of rows numbered
+     */
+    public int numberPendingChanges() {
+        return namedJdbcTemplate.getJdbcTemplate().update(
+                "UPDATE issue_view SET change_seq = nextval('issue_change_seq') WHERE change_seq IS NULL");
+    }
+}
@@ -14,5 +14,26 @@ public interface AssignmentService {
      * @param assignedByUserId ID of user performing the assignment
      * @return Updated issue entity
      */
-    Issue assignIssue(Long issueId, Long assigneeUserId, Long assignedByUserId);
+    default Issue assignIssue(Long issueId, Long assigneeUserId, Long assignedByUserId) {
+        return assignIssue(issueId, assigneeUserId, assignedByUserId, null);
+    }
+
+    /**
+     * Assign an issue to a developer, only if it is still at the expected version
+     * @param issueId Issue ID
+     * @param assigneeUserId ID of user to assign issue to
+     * @param assignedByUserId ID of user performing the assignment
+     * @param expectedVersion Version from the client's If-Match header, or null to skip the check
+     * @return Updated issue entity
+     */
+    Issue assignIssue(Long issueId, Long assigneeUserId, Long assignedByUserId, Long expectedVersion);
+
+    /**
+     * Assign an issue to the developer with the least weighted open workload
+     * @param issueId Issue ID
+     * @param assignedByUserId ID of user performing the assignment
+     * @param expectedVersion Version from the client's If-Match header, or null to skip the check
+     * @return Updated issue entity
+     */
+    Issue autoAssignIssue(Long issueId, Long assignedByUserId, Long expectedVersion);
 }
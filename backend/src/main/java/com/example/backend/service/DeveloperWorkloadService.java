@@ -0,0 +1,29 @@
+package com.example.backend.service;
+
+import com.example.backend.model.Priority;
+
+/**
+ * In-memory ranking of developers by weighted open workload, for automatic assignment.
+ */
+public interface DeveloperWorkloadService {
+
+    /**
+     * Pick the developer with the least workload and reserve the weight of one issue of the
+     * given priority for them until the calling transaction completes, so concurrent picks
+     * spread out instead of all landing on the same developer
+     * @param priority Priority of the issue about to be assigned
+     * @return Developer user ID, or null when there is no developer
+     */
+    Long reserveLeastLoaded(Priority priority);
+
+    /**
+     * Make a new developer available for automatic assignment once the calling transaction commits
+     * @param developerId User ID of a DEVELOPER
+     */
+    void addDeveloper(Long developerId);
+
+    /**
+     * Rebuild all workloads from the database, discarding any drift
+     */
+    void reconcile();
+}
@@ -0,0 +1,11 @@
+package com.example.backend.service;
+
+public interface IssueArchiveService {
+
+    /**
+     * Move every issue that has been CLOSED for longer than the configured age to the
+     * archive, one short transaction per batch
+     * @return Number of issues archived
+     */
+    int archiveClosedIssues();
+}
@@ -0,0 +1,11 @@
+package com.example.backend.service;
+
+public interface IssueChangeSequencer {
+
+    /**
+     * Give the committed issue_view and issue_archive rows that are waiting for a change token
+     * their tokens, in one transaction
+     * @return Number of rows numbered, or 0 when another instance is numbering right now
+     */
+    int numberPendingChanges();
+}
@@ -0,0 +1,20 @@
+package com.example.backend.service;
+
+import com.example.backend.model.IssueStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface IssueChangeStreamService {
+
+    /**
+     * Open a Server-Sent Events stream of committed issue changes
+     * @param status Only changes into or out of this status, or null for all
+     * @param assignedTo Only changes to issues assigned to (or unassigned from) this user; 0 = unassigned; null for all
+     * @return Emitter that receives one "issue" event per matching change
+     */
+    SseEmitter subscribe(IssueStatus status, Long assignedTo);
+
+    /**
+     * @return Number of open streams
+     */
+    int subscriberCount();
+}
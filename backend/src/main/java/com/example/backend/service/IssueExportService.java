@@ -0,0 +1,32 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.example.backend.model.IssueStatus;
+
+public interface IssueExportService {
+
+    enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Stream every issue matching the filters to the output, one row at a time
+     * @param status Optional status filter
+     * @param assignedToUserId Optional assignee filter
+     * @param createdById Optional creator filter
+     * @param includeArchived Include archived issues; they are always included for status CLOSED
+     * @param format Output encoding
+     * @param out Destination stream, flushed but not closed
+     */
+    void exportIssues(
+            IssueStatus status,
+            Long assignedToUserId,
+            Long createdById,
+            boolean includeArchived,
+            Format format,
+            OutputStream out
+    ) throws IOException;
+}
@@ -0,0 +1,27 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.IssueHistoryDto;
+
+import java.util.List;
+
+public interface IssueHistoryService {
+
+    /**
+     * How change events reach the issue_history table
+     */
+    enum Durability {
+        /** Buffered and written in background batches; dropped if the buffer is full, lost on a crash */
+        BEST_EFFORT,
+        /** Buffered like BEST_EFFORT, but a full buffer stalls the writing request (up to a limit) instead of dropping */
+        BLOCK_WHEN_FULL,
+        /** Inserted in the same transaction as the change; never lost, costs one extra statement per write */
+        SYNC
+    }
+
+    /**
+     * Recorded changes of one issue, oldest first
+     * @param issueId Issue ID
+     * @return History rows; with a buffered durability mode the latest changes may not be written yet
+     */
+    List<IssueHistoryDto> getHistory(Long issueId);
+}
@@ -1,16 +1,63 @@
 package com.example.backend.service;
 
-import com.example.backend.model.Issue;
+import com.example.backend.dto.ChangeToken;
+import com.example.backend.dto.IssueChangesDto;
+import com.example.backend.dto.IssueCursor;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.dto.IssueField;
+import com.example.backend.dto.IssueSearchCursor;
+import com.example.backend.dto.IssueSearchHit;
 import com.example.backend.model.IssueStatus;
 
 import java.util.List;
+import java.util.Set;
 
 public interface IssueQueryService {
 
-    List<Issue> getFilteredIssues(
+    /**
+     * Get one keyset page of filtered issues, newest update first
+     * @param after Cursor of the last issue on the previous page, or null for the first page
+     * @param limit Maximum number of issues to return
+     * @param fields Fields to read, or null for all; unselected fields are neither queried nor set
+     * @param includeArchived Include archived issues; they are always included for status CLOSED
+     * @return Issue DTOs strictly after the cursor, projected without loading entities
+     */
+    List<IssueDto> getFilteredIssuePage(
             IssueStatus status,
             Long assignedToUserId,
-            Long createdById
+            Long createdById,
+            IssueCursor after,
+            int limit,
+            Set<IssueField> fields,
+            boolean includeArchived
+    );
+
+    /**
+     * Full-text search over issue title and description, ranked by relevance
+     * @param query Search terms (web search syntax: quoted phrases, OR, -exclusion)
+     * @param after Cursor of the last hit on the previous page, or null for the first page
+     * @param limit Maximum number of hits to return
+     * @param fields Fields to read, or null for all
+     * @param includeArchived Include archived issues; they are always included for status CLOSED
+     * @return Hits ordered by rank, best first
+     */
+    List<IssueSearchHit> searchIssuePage(
+            String query,
+            IssueStatus status,
+            Long assignedToUserId,
+            Long createdById,
+            IssueSearchCursor after,
+            int limit,
+            Set<IssueField> fields,
+            boolean includeArchived
     );
-}
 
+    /**
+     * Issues created, modified or archived after the given change token, oldest change first
+     * @param since Token from the previous call, or ChangeToken.START for a full sync
+     * @param limit Maximum number of changes to return
+     * @param fields Fields to read for changed issues, or null for all
+     * @return Changed issues, removed issue IDs and the token to pass next time
+     */
+    IssueChangesDto getChangesSince(ChangeToken since, int limit, Set<IssueField> fields);
+}
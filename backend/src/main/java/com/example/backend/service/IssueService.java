@@ -1,5 +1,9 @@
 package com.example.backend.service;
 
+import java.util.List;
+
+import com.example.backend.dto.BulkCreateResultDto;
+import com.example.backend.dto.request.CreateIssueRequest;
 import com.example.backend.model.Issue;
 import com.example.backend.model.Priority;
 
@@ -17,4 +21,12 @@ public interface IssueService {
      * @return Created issue entity
      */
     Issue createIssue(String title, String description, Priority priority, Long createdByUserId);
+
+    /**
+     * Create many issues in JDBC batches
+     * Invalid items are reported individually and do not prevent the valid ones from being saved.
+     * @param requests Issues to create
+     * @return IDs of created issues and per-item errors
+     */
+    BulkCreateResultDto createIssues(List<CreateIssueRequest> requests);
 }
\ No newline at end of file
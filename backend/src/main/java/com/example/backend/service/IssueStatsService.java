@@ -0,0 +1,17 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.IssueStatsDto;
+
+public interface IssueStatsService {
+
+    /**
+     * Issue counts by status, priority and assignee, served from memory
+     * @return Current counter snapshot
+     */
+    IssueStatsDto getStats();
+
+    /**
+     * Rebuild the counters from the database, discarding any drift
+     */
+    void reconcile();
+}
@@ -16,5 +16,17 @@ public interface StatusTransitionService {
      * @param userId ID of user performing the transition
      * @return Updated issue entity
      */
-    Issue updateIssueStatus(Long issueId, IssueStatus newStatus, Long userId);
+    default Issue updateIssueStatus(Long issueId, IssueStatus newStatus, Long userId) {
+        return updateIssueStatus(issueId, newStatus, userId, null);
+    }
+
+    /**
+     * Update issue status, only if the issue is still at the expected version
+     * @param issueId Issue ID
+     * @param newStatus New status to transition to
+     * @param userId ID of user performing the transition
+     * @param expectedVersion Version from the client's If-Match header, or null to skip the check
+     * @return Updated issue entity
+     */
+    Issue updateIssueStatus(Long issueId, IssueStatus newStatus, Long userId, Long expectedVersion);
 }
\ No newline at end of file
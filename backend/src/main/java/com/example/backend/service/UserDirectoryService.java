@@ -0,0 +1,35 @@
+package com.example.backend.service;
+
+import java.util.Optional;
+
+import com.example.backend.dto.UserSummary;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Read-through cache of users for the write paths' existence and role checks.
+ */
+public interface UserDirectoryService {
+
+    /**
+     * Look up a user, hitting the database only on a cache miss
+     * @param userId User ID
+     * @return Cached summary, or empty if no such user exists
+     */
+    Optional<UserSummary> findById(Long userId);
+
+    /**
+     * Drop a user from the cache so the next lookup reloads it
+     * @param userId User ID
+     */
+    void evict(Long userId);
+
+    /**
+     * @return Hit/miss/eviction counters since startup
+     */
+    CacheStats stats();
+
+    /**
+     * @return Approximate number of cached users
+     */
+    long size();
+}
@@ -18,6 +18,14 @@ public interface UserService {
      */
     User createUser(String name, Role role);
 
+    /**
+     * Rename a user; issue lists show the new name immediately
+     * @param userId User ID
+     * @param name New user name
+     * @return Updated user entity
+     */
+    User renameUser(Long userId, String name);
+
     /**
      * Get all users
      * @return List of all users
@@ -1,72 +1,175 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.UserSummary;
+import com.example.backend.event.IssueChangedEvent;
 import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.exception.PreconditionFailedException;
 import com.example.backend.model.*;
 import com.example.backend.repository.IssueRepository;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.service.AssignmentService;
+import com.example.backend.service.DeveloperWorkloadService;
+import com.example.backend.service.UserDirectoryService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * Assignment Service Implementation
  * Created by: Rajasabari (RS)
+ * Each attempt runs in its own transaction via OptimisticRetryTemplate, so a lost
+ * version race is retried against fresh state instead of overwriting it.
  */
 @Service
-@Transactional
+@Timed("app.service")
 public class AssignmentServiceImpl implements AssignmentService {
 
     @Autowired
     private IssueRepository issueRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserDirectoryService userDirectory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OptimisticRetryTemplate retryTemplate;
+
+    @Autowired
+    private DeveloperWorkloadService developerWorkloads;
+
+    @Value("${app.issues.guarded-writes:true}")
+    private boolean guardedWrites;
 
     @Override
-    public Issue assignIssue(Long issueId, Long assigneeUserId, Long assignedByUserId) {
+    public Issue assignIssue(Long issueId, Long assigneeUserId, Long assignedByUserId, Long expectedVersion) {
+        return retryTemplate.execute(() ->
+                attemptAssign(issueId, assigneeUserId, assignedByUserId, expectedVersion));
+    }
+
+    @Override
+    public Issue autoAssignIssue(Long issueId, Long assignedByUserId, Long expectedVersion) {
+        return retryTemplate.execute(() -> attemptAssign(issueId, null, assignedByUserId, expectedVersion));
+    }
+
+    // A null assignee means auto-assign: the least loaded developer is picked per attempt
+    private Issue attemptAssign(Long issueId, Long requestedAssigneeId, Long assignedByUserId, Long expectedVersion) {
+        if (guardedWrites) {
+            return assignGuarded(issueId, requestedAssigneeId, assignedByUserId, expectedVersion);
+        }
+
         // Validate issue exists
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new BusinessException("Issue not found with ID: " + issueId));
-
-        // Validate assignee exists and is DEVELOPER
-        User assignee = userRepository.findById(assigneeUserId)
-                .orElseThrow(() -> new BusinessException("Assignee user not found with ID: " + assigneeUserId));
-
-        if (assignee.getRole() != Role.DEVELOPER) {
-            throw new BusinessException(
-                String.format("Assignee must be a DEVELOPER. User '%s' has role: %s",
-                assignee.getName(), assignee.getRole())
-            );
+        Issue issue = findIssue(issueId);
+
+        checkVersion(issue, expectedVersion);
+
+        Long assigneeUserId = requestedAssigneeId != null
+                ? requestedAssigneeId : reserveDeveloper(issue.getPriority());
+        Long previousAssigneeId = issue.getAssignedTo() != null ? issue.getAssignedTo().getId() : null;
+        UserSummary assignee = validateAssignment(issue, assigneeUserId, assignedByUserId);
+
+        // Perform assignment
+        issue.setAssignedTo(assignee.toUser());
+
+        // If issue is OPEN, we don't change status yet (developer will move to IN_PROGRESS when starting work)
+        // Flush now so a version conflict surfaces inside this attempt
+        Issue saved = issueRepository.saveAndFlush(issue);
+
+        eventPublisher.publishEvent(IssueChangedEvent.assigned(saved.getId(), saved.getPriority(),
+                saved.getStatus(), previousAssigneeId, assigneeUserId, assignedByUserId));
+        return saved;
+    }
+
+    /**
+     * Assigns with one conditional UPDATE that checks the issue status, both users' roles and,
+     * with If-Match, the version, without reading the issue first (auto-assign only reads its
+     * priority). The rules are only evaluated in Java, to build a detailed message, when the
+     * UPDATE matches no row.
+     */
+    private Issue assignGuarded(Long issueId, Long requestedAssigneeId, Long assignedByUserId, Long expectedVersion) {
+        Long assigneeUserId = requestedAssigneeId;
+        if (assigneeUserId == null) {
+            Priority priority = issueRepository.findPriorityById(issueId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.ISSUE_NOT_FOUND, "Issue not found with ID: " + issueId));
+            assigneeUserId = reserveDeveloper(priority);
         }
+        LocalDateTime now = LocalDateTime.now();
 
-        // Validate assigner exists and has permission (ADMIN or TESTER)
-        User assigner = userRepository.findById(assignedByUserId)
-                .orElseThrow(() -> new BusinessException("Assigner user not found with ID: " + assignedByUserId));
+        Optional<Issue> previous = issueRepository.assignIfAllowed(
+                issueId, assigneeUserId, assignedByUserId, expectedVersion, now);
 
-        if (assigner.getRole() != Role.ADMIN && assigner.getRole() != Role.TESTER) {
-            throw new BusinessException(
-                String.format("Only ADMIN or TESTER can assign issues. User '%s' has role: %s",
-                assigner.getName(), assigner.getRole())
-            );
+        if (previous.isEmpty()) {
+            // Explain the rejection against the latest committed state
+            Issue current = findIssue(issueId);
+            checkVersion(current, expectedVersion);
+            validateAssignment(current, assigneeUserId, assignedByUserId);
+            // Every rule holds, so another writer changed the issue in between
+            throw new OptimisticLockingFailureException("Issue " + issueId + " changed during assignment");
         }
 
-        // Business Rule: Cannot assign CLOSED issues
-        if (issue.getStatus() == IssueStatus.CLOSED) {
-            throw new BusinessException("Cannot assign CLOSED issues. Current status: " + issue.getStatus());
+        Issue issue = previous.get();
+        Long previousAssigneeId = issue.getAssignedTo() != null ? issue.getAssignedTo().getId() : null;
+        issue.setCreatedBy(user(issue.getCreatedBy().getId()));
+        issue.setAssignedTo(user(assigneeUserId));
+        issue.setUpdatedAt(now);
+        issue.setVersion(issue.getVersion() + 1);
+
+        eventPublisher.publishEvent(IssueChangedEvent.assigned(issue.getId(), issue.getPriority(),
+                issue.getStatus(), previousAssigneeId, assigneeUserId, assignedByUserId));
+        return issue;
+    }
+
+    private Long reserveDeveloper(Priority priority) {
+        Long developerId = developerWorkloads.reserveLeastLoaded(priority);
+        if (developerId == null) {
+            throw new BusinessException(ErrorCode.NO_DEVELOPER_AVAILABLE, "No developer available for auto-assignment");
         }
+        return developerId;
+    }
 
-        // Business Rule: Cannot reassign RESOLVED issues without reopening first
-        if (issue.getStatus() == IssueStatus.RESOLVED) {
-            throw new BusinessException(
-                "Cannot reassign RESOLVED issues. Reopen the issue first before reassigning."
-            );
+    private Issue findIssue(Long issueId) {
+        return issueRepository.findById(issueId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ISSUE_NOT_FOUND, "Issue not found with ID: " + issueId));
+    }
+
+    // If-Match: the client only wants to change the version it has seen
+    private static void checkVersion(Issue issue, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(issue.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Issue %d has changed (version %d, expected %d)", issue.getId(), issue.getVersion(), expectedVersion));
         }
+    }
 
-        // Perform assignment
-        issue.setAssignedTo(assignee);
+    // Detached reference for the returned issue, from the user cache
+    private User user(Long userId) {
+        return userDirectory.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId))
+                .toUser();
+    }
 
-        // If issue is OPEN, we don't change status yet (developer will move to IN_PROGRESS when starting work)
-        return issueRepository.save(issue);
+    private UserSummary validateAssignment(Issue issue, Long assigneeUserId, Long assignedByUserId) {
+        // Validate assignee exists
+        UserSummary assignee = userDirectory.findById(assigneeUserId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "Assignee user not found with ID: " + assigneeUserId));
+
+        // Validate assigner exists
+        UserSummary assigner = userDirectory.findById(assignedByUserId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "Assigner user not found with ID: " + assignedByUserId));
+
+        // Roles and status (no CLOSED, no RESOLVED without reopening first) come from IssueRules
+        IssueRules.Rejection rejection = IssueRules.checkAssignment(assignee.role(), assigner.role(), issue.getStatus());
+        if (rejection != null) {
+            throw IssueRules.assignmentRejection(rejection, assignee.name(), assignee.role(),
+                    assigner.name(), assigner.role());
+        }
+
+        return assignee;
     }
 }
@@ -0,0 +1,236 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.repository.IssueRepository;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DeveloperWorkloadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Developer workloads for auto-assignment, kept in memory and ranked in a concurrent skip
+ * list ordered by (load, developer ID), so the least loaded developer is the first entry
+ * and every pick or update is O(log n) with no query.
+ * A developer's load is the sum of their OPEN and IN_PROGRESS issues' priority weights, plus
+ * in-progress-weight for each IN_PROGRESS issue. Loads follow IssueChangedEvent after commit;
+ * a scheduled reconciliation rebuilds them from one GROUP BY query, like IssueStatsServiceImpl,
+ * replays the changes committed after its snapshot and carries the open reservations over.
+ */
+@Service
+public class DeveloperWorkloadServiceImpl implements DeveloperWorkloadService {
+
+    private static final EnumSet<IssueStatus> ACTIVE = EnumSet.of(IssueStatus.OPEN, IssueStatus.IN_PROGRESS);
+
+    // Indexed by Priority.ordinal(): LOW, MEDIUM, HIGH, CRITICAL
+    private static final long[] PRIORITY_WEIGHTS = {1, 2, 4, 8};
+
+    private final IssueRepository issueRepository;
+    private final UserRepository userRepository;
+    private final IssueCommitFence commitFence;
+    private final long inProgressWeight;
+
+    private final AtomicReference<Ranking> ranking = new AtomicReference<>(new Ranking());
+
+    // Guards every pick and release of a reservation, and the ranking swap that carries them over
+    private final Object reservations = new Object();
+
+    // Non-null while a reconcile runs: changes committed after its snapshot
+    private volatile Queue<IssueChangedEvent> replay;
+
+    public DeveloperWorkloadServiceImpl(IssueRepository issueRepository,
+                                        UserRepository userRepository,
+                                        IssueCommitFence commitFence,
+                                        @Value("${app.auto-assign.in-progress-weight:2}") long inProgressWeight) {
+        this.issueRepository = issueRepository;
+        this.userRepository = userRepository;
+        this.commitFence = commitFence;
+        this.inProgressWeight = inProgressWeight;
+    }
+
+    @Override
+    public Long reserveLeastLoaded(Priority priority) {
+        long weight = PRIORITY_WEIGHTS[priority.ordinal()];
+        long pickedId;
+        // Serializes picks only; event updates of other developers proceed concurrently
+        synchronized (reservations) {
+            Ranking current = ranking.get();
+            Iterator<Slot> leastLoaded = current.order.iterator();
+            if (!leastLoaded.hasNext()) {
+                return null;
+            }
+            pickedId = leastLoaded.next().developerId();
+            current.adjust(current.developers.get(pickedId), 0, weight);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // afterCompletion runs after the after-commit listeners, so the committed
+            // assignment is already counted when the reservation is dropped
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(pickedId, weight);
+                }
+            });
+        } else {
+            release(pickedId, weight);
+        }
+        return pickedId;
+    }
+
+    // From whichever ranking is current by then: a reconcile may have swapped in a new one
+    private void release(long developerId, long weight) {
+        synchronized (reservations) {
+            Ranking current = ranking.get();
+            current.adjust(current.developer(developerId), 0, -weight);
+        }
+    }
+
+    @Override
+    public void addDeveloper(Long developerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ranking.get().developer(developerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ranking.get().developer(developerId);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        apply(ranking.get(), event);
+        Queue<IssueChangedEvent> pending = replay;
+        if (pending != null) {
+            pending.add(event);
+        }
+    }
+
+    private void apply(Ranking current, IssueChangedEvent event) {
+        if (event.type() == IssueChangedEvent.Type.CREATED) {
+            return;
+        }
+        long before = load(event.oldStatus(), event.priority());
+        long after = load(event.newStatus(), event.priority());
+        if (event.oldAssigneeId() != null) {
+            Developer developer = current.developers.get(event.oldAssigneeId());
+            if (developer != null) {
+                current.adjust(developer, -before, 0);
+            }
+        }
+        if (event.newAssigneeId() != null) {
+            Developer developer = current.developers.get(event.newAssigneeId());
+            if (developer != null) {
+                current.adjust(developer, after, 0);
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.auto-assign.reconcile-initial-delay-ms:0}",
+               fixedDelayString = "${app.auto-assign.reconcile-interval-ms:300000}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        // Not read-only, so the snapshot is taken on the primary, never on a lagging replica
+        Queue<IssueChangedEvent> committedAfterSnapshot = new ConcurrentLinkedQueue<>();
+        commitFence.snapshot(() -> replay = committedAfterSnapshot);
+
+        Ranking fresh = new Ranking();
+        for (Long developerId : userRepository.findIdsByRole(Role.DEVELOPER)) {
+            fresh.developer(developerId);
+        }
+        for (Object[] row : issueRepository.countActiveByAssignee(ACTIVE)) {
+            Developer developer = fresh.developers.get((Long) row[0]);
+            if (developer != null) {
+                long count = ((Number) row[3]).longValue();
+                fresh.adjust(developer, count * load((IssueStatus) row[1], (Priority) row[2]), 0);
+            }
+        }
+
+        commitFence.exclusive(() -> {
+            synchronized (reservations) {
+                // Developers created after the snapshot only exist in the old ranking
+                for (Developer developer : ranking.get().developers.values()) {
+                    fresh.adjust(fresh.developer(developer.id), 0, developer.reserved);
+                }
+                committedAfterSnapshot.forEach(event -> apply(fresh, event));
+                ranking.set(fresh);
+            }
+            replay = null;
+        });
+    }
+
+    // Weight one issue adds to its assignee's load; resolved and closed issues add nothing
+    private long load(IssueStatus status, Priority priority) {
+        if (status == IssueStatus.OPEN) {
+            return PRIORITY_WEIGHTS[priority.ordinal()];
+        }
+        if (status == IssueStatus.IN_PROGRESS) {
+            return PRIORITY_WEIGHTS[priority.ordinal()] + inProgressWeight;
+        }
+        return 0;
+    }
+
+    private record Slot(long load, long developerId) {
+    }
+
+    private static final class Developer {
+        final long id;
+        long committed;
+        long reserved;
+        Slot slot;
+
+        Developer(long id) {
+            this.id = id;
+            this.slot = new Slot(0, id);
+        }
+    }
+
+    private static final class Ranking {
+        final ConcurrentHashMap<Long, Developer> developers = new ConcurrentHashMap<>();
+        final ConcurrentSkipListSet<Slot> order = new ConcurrentSkipListSet<>(
+                Comparator.comparingLong(Slot::load).thenComparingLong(Slot::developerId));
+
+        Developer developer(long developerId) {
+            return developers.computeIfAbsent(developerId, id -> {
+                Developer developer = new Developer(id);
+                order.add(developer.slot);
+                return developer;
+            });
+        }
+
+        // Re-rank one developer. The new slot is added before the old one is removed, so a
+        // concurrent pick never sees the developer missing
+        void adjust(Developer developer, long committedDelta, long reservedDelta) {
+            synchronized (developer) {
+                developer.committed += committedDelta;
+                developer.reserved += reservedDelta;
+                Slot next = new Slot(developer.committed + developer.reserved, developer.id);
+                if (!next.equals(developer.slot)) {
+                    order.add(next);
+                    order.remove(developer.slot);
+                    developer.slot = next;
+                }
+            }
+        }
+    }
+}
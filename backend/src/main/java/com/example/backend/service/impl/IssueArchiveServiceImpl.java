@@ -0,0 +1,92 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.repository.IssueArchiveRepository;
+import com.example.backend.service.IssueArchiveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot/cold split of the issues table. CLOSED is terminal, so an issue's updated_at is
+ * the time it was closed; once that is older than closed-for, the issue is moved to
+ * issue_archive. Each batch locks, copies and deletes at most batch-size rows in its own
+ * transaction, so live writes never wait behind one long archiving transaction, and the
+ * job pauses between batches to leave the database room for regular traffic.
+ */
+@Service
+public class IssueArchiveServiceImpl implements IssueArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueArchiveServiceImpl.class);
+
+    private final IssueArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration closedFor;
+    private final int batchSize;
+    private final long batchPauseMillis;
+
+    private final Counter archived;
+    private final Timer batchTimer;
+
+    public IssueArchiveServiceImpl(IssueArchiveRepository archiveRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${app.archive.closed-for:30d}") Duration closedFor,
+                                   @Value("${app.archive.batch-size:500}") int batchSize,
+                                   @Value("${app.archive.batch-pause-ms:100}") long batchPauseMillis,
+                                   MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.closedFor = closedFor;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.archived = Counter.builder("archive.issues.archived").register(meterRegistry);
+        this.batchTimer = Timer.builder("archive.batch").register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.archive.initial-delay-ms:60000}",
+               fixedDelayString = "${app.archive.interval-ms:3600000}")
+    public int archiveClosedIssues() {
+        // One cutoff for the whole run, so rows closed while it runs wait for the next one
+        LocalDateTime cutoff = LocalDateTime.now().minus(closedFor);
+        int total = 0;
+        while (true) {
+            int moved = batchTimer.record(() -> transactionTemplate.execute(status -> archiveBatch(cutoff)));
+            total += moved;
+            archived.increment(moved);
+            if (moved < batchSize || !pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} issues closed before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = archiveRepository.lockClosedBefore(cutoff, batchSize);
+        return ids.isEmpty() ? 0 : archiveRepository.moveToArchive(ids, LocalDateTime.now());
+    }
+
+    // False when interrupted (shutdown): the remaining batches are left for the next run
+    private boolean pause() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
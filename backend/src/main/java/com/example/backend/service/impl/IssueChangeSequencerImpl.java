@@ -0,0 +1,50 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.repository.DatabaseVendor;
+import com.example.backend.repository.IssueArchiveRepository;
+import com.example.backend.repository.IssueViewRepository;
+import com.example.backend.service.IssueChangeSequencer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Numbers issue changes for delta sync after they committed. Writers only mark their rows
+ * (change_seq NULL) and never wait for each other; this job numbers whatever has committed
+ * since its last run. Runs never overlap (one per JVM, one across instances through an
+ * advisory lock), so every token it hands out is higher than any token already visible and
+ * a client never moves past a change it has not seen yet.
+ */
+@Service
+public class IssueChangeSequencerImpl implements IssueChangeSequencer {
+
+    // PostgreSQL advisory lock key; any constant works as long as every instance uses the same one
+    private static final long SEQUENCER_LOCK = 10_010L;
+
+    private final IssueViewRepository issueViewRepository;
+    private final IssueArchiveRepository issueArchiveRepository;
+    private final DatabaseVendor databaseVendor;
+    private final TransactionTemplate transactionTemplate;
+
+    public IssueChangeSequencerImpl(IssueViewRepository issueViewRepository,
+                                    IssueArchiveRepository issueArchiveRepository,
+                                    DatabaseVendor databaseVendor,
+                                    TransactionTemplate transactionTemplate) {
+        this.issueViewRepository = issueViewRepository;
+        this.issueArchiveRepository = issueArchiveRepository;
+        this.databaseVendor = databaseVendor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.changes.sequence-interval-ms:200}")
+    public synchronized int numberPendingChanges() {
+        Integer numbered = transactionTemplate.execute(status -> {
+            if (!databaseVendor.tryTransactionLock(SEQUENCER_LOCK)) {
+                return 0;
+            }
+            return issueViewRepository.numberPendingChanges() + issueArchiveRepository.numberPendingChanges();
+        });
+        return numbered != null ? numbered : 0;
+    }
+}
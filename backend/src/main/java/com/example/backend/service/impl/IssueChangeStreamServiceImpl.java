@@ -0,0 +1,204 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.service.IssueChangeStreamService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed issue changes to open SSE streams.
+ * Each change is serialized once into an SSE frame and offered to every matching
+ * subscriber's bounded queue; a subscriber whose queue is full is too slow to keep
+ * up and is disconnected (the browser's EventSource reconnects and reloads the list),
+ * so one stalled client never holds memory or the committing request thread.
+ * Frames are written by at most one virtual thread per subscriber at a time.
+ */
+@Service
+public class IssueChangeStreamServiceImpl implements IssueChangeStreamService {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final ObjectMapper objectMapper;
+    private final int queueSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter sent;
+    private final Counter slowConsumerDisconnects;
+
+    public IssueChangeStreamServiceImpl(ObjectMapper objectMapper,
+                                        @Value("${app.stream.queue-size:256}") int queueSize,
+                                        @Value("${app.stream.max-subscribers:10000}") int maxSubscribers,
+                                        @Value("${app.stream.timeout:30m}") Duration timeout,
+                                        MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.queueSize = queueSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+
+        Gauge.builder("stream.subscribers", subscribers, Set::size).register(meterRegistry);
+        this.sent = Counter.builder("stream.events.sent").register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("stream.disconnects").tag("reason", "slow_consumer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(IssueStatus status, Long assignedTo) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new BusinessException(ErrorCode.TOO_MANY_SUBSCRIBERS,
+                    "Too many open issue streams, retry later");
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis), status, assignedTo,
+                new ArrayBlockingQueue<>(queueSize));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // Flush the response headers right away so the client sees the stream open
+        enqueue(subscriber, HEARTBEAT);
+        return subscriber.emitter;
+    }
+
+    @Override
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = null;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                if (frame == null) {
+                    frame = frame(event);
+                }
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        senders.shutdownNow();
+    }
+
+    private Set<DataWithMediaType> frame(IssueChangedEvent event) {
+        try {
+            return SseEmitter.event()
+                    .name("issue")
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (!subscriber.queue.offer(frame)) {
+            disconnectSlowConsumer(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> frame;
+                while ((frame = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(frame);
+                    if (frame != HEARTBEAT) {
+                        sent.increment();
+                    }
+                }
+                subscriber.draining.set(false);
+            } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or the emitter already completed
+            subscribers.remove(subscriber);
+            subscriber.queue.clear();
+        }
+    }
+
+    private void disconnectSlowConsumer(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            slowConsumerDisconnects.increment();
+            subscriber.queue.clear();
+            // complete() waits for an in-flight send, so never call it on the publishing thread
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final IssueStatus status;
+        final Long assignedTo;
+        final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, IssueStatus status, Long assignedTo,
+                   ArrayBlockingQueue<Set<DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.status = status;
+            this.assignedTo = assignedTo;
+            this.queue = queue;
+        }
+
+        // A change matches when the issue enters or leaves the filtered status / assignee
+        boolean matches(IssueChangedEvent event) {
+            if (status != null && status != event.oldStatus() && status != event.newStatus()) {
+                return false;
+            }
+            if (assignedTo == null) {
+                return true;
+            }
+            Long wanted = assignedTo == 0 ? null : assignedTo;
+            return Objects.equals(wanted, event.oldAssigneeId()) || Objects.equals(wanted, event.newAssigneeId());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.event.IssueChangedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lines up the reconcile snapshot of the in-memory aggregates fed by IssueChangedEvent
+ * (dashboard counters, developer workloads) with the issue commits of this instance.
+ * Every issue transaction holds the read side from just before its commit until its
+ * after-commit listeners have run; {@link #snapshot} fixes the reconciling transaction's
+ * snapshot under the write side. Every change applied before that point is in the
+ * snapshot, and every change applied after it committed after the snapshot.
+ */
+@Component
+public class IssueCommitFence {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IssueCommitFence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        lock.readLock().lock();
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // Runs after every afterCommit callback, on commit and on rollback alike
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(IssueCommitFence.this);
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Fix the snapshot of the current REPEATABLE READ transaction with a first statement, and
+     * run the action at the same point, while no issue transaction is committing.
+     */
+    public void snapshot(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Run the action while no issue transaction is committing or applying its changes,
+     * e.g. to swap in an aggregate rebuilt from the snapshot.
+     */
+    public void exclusive(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.IssueDto;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.repository.IssueArchiveRepository;
+import com.example.backend.repository.IssueDtoRowMapper;
+import com.example.backend.service.IssueExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams issues straight from a JDBC cursor over issue_view (and issue_archive, for
+ * closed issues) to the response body.
+ * Rows are fetched in fixed-size batches (the read-only transaction keeps the
+ * PostgreSQL cursor open) and written one by one, so heap use does not grow
+ * with the number of exported issues.
+ */
+@Service
+@Timed("app.service")
+@Transactional(readOnly = true)
+public class IssueExportServiceImpl implements IssueExportService {
+
+    private static final String EXPORT_SELECT = "SELECT " + IssueDtoRowMapper.VIEW_SELECT_COLUMNS + " ";
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,createdById,createdByName,createdByRole," +
+            "assignedToId,assignedToName,assignedToRole,createdAt,updatedAt\n";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public void exportIssues(
+            IssueStatus status,
+            Long assignedToUserId,
+            Long createdById,
+            boolean includeArchived,
+            Format format,
+            OutputStream out
+    ) throws IOException {
+
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> filterArgs = new ArrayList<>();
+
+        if (status != null) {
+            where.append(" AND v.status = ?");
+            filterArgs.add(status.name());
+        }
+        if (assignedToUserId != null) {
+            where.append(" AND v.assigned_to_id = ?");
+            filterArgs.add(assignedToUserId);
+        }
+        if (createdById != null) {
+            where.append(" AND v.created_by_id = ?");
+            filterArgs.add(createdById);
+        }
+
+        StringBuilder sql = new StringBuilder(EXPORT_SELECT).append(IssueDtoRowMapper.FROM_VIEW).append(where);
+        List<Object> args = new ArrayList<>(filterArgs);
+        if (IssueArchiveRepository.covers(status, includeArchived)) {
+            sql.append(" UNION ALL ").append(EXPORT_SELECT).append(IssueArchiveRepository.FROM_ARCHIVE).append(where);
+            args.addAll(filterArgs);
+        }
+        sql.append(" ORDER BY id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = null;
+
+        if (format == Format.NDJSON) {
+            json = objectMapper.getFactory().createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+        } else {
+            writer.write(CSV_HEADER);
+        }
+
+        JsonGenerator generator = json;
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                IssueDto row = IssueDtoRowMapper.INSTANCE.mapRow(rs, 0);
+                if (generator != null) {
+                    generator.writeObject(row);
+                    generator.writeRaw('\n');
+                } else {
+                    writeCsvRow(writer, row);
+                }
+            } catch (IOException e) {
+                // Client went away; abort the cursor instead of reading the rest of the table
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, IssueDto row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writeCsvField(writer, row.getTitle());
+        writer.write(',');
+        writeCsvField(writer, row.getDescription());
+        writer.write(',');
+        writer.write(row.getStatus().name());
+        writer.write(',');
+        writer.write(row.getPriority().name());
+        writer.write(',');
+        writer.write(String.valueOf(row.getCreatedBy().getId()));
+        writer.write(',');
+        writeCsvField(writer, row.getCreatedBy().getName());
+        writer.write(',');
+        writer.write(row.getCreatedBy().getRole().name());
+        writer.write(',');
+        if (row.getAssignedTo() != null) {
+            writer.write(String.valueOf(row.getAssignedTo().getId()));
+            writer.write(',');
+            writeCsvField(writer, row.getAssignedTo().getName());
+            writer.write(',');
+            writer.write(row.getAssignedTo().getRole().name());
+        } else {
+            writer.write(",,");
+        }
+        writer.write(',');
+        writer.write(row.getCreatedAt() != null ? row.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(row.getUpdatedAt().toString());
+        writer.write('\n');
+    }
+
+    // RFC 4180 quoting: only quote when needed, double embedded quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
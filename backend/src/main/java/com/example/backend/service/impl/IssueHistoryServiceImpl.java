@@ -0,0 +1,220 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.IssueHistoryDto;
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.service.IssueHistoryService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of issue changes in the issue_history table.
+ * In the buffered modes the request thread only offers the committed event to a
+ * bounded lock-free ring buffer; one background thread drains it and inserts the
+ * rows with a JDBC batch per drain, so a write request pays no extra statement.
+ * See {@link IssueHistoryService.Durability} for what each mode can lose.
+ */
+@Service
+public class IssueHistoryServiceImpl implements IssueHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueHistoryServiceImpl.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO issue_history (issue_id, change_type, old_status, new_status, " +
+            "old_assignee_id, new_assignee_id, actor_user_id, occurred_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT id, issue_id, change_type, old_status, new_status, old_assignee_id, new_assignee_id, " +
+            "actor_user_id, occurred_at FROM issue_history WHERE issue_id = ? ORDER BY occurred_at, id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Durability durability;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final long maxBlockNanos;
+
+    private final AuditRingBuffer<IssueChangedEvent> buffer;
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedFailed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public IssueHistoryServiceImpl(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.audit.durability:BEST_EFFORT}") Durability durability,
+                                   @Value("${app.audit.buffer-size:16384}") int bufferSize,
+                                   @Value("${app.audit.batch-size:500}") int batchSize,
+                                   @Value("${app.audit.flush-interval-ms:100}") long flushIntervalMillis,
+                                   @Value("${app.audit.max-block-ms:1000}") long maxBlockMillis,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.maxBlockNanos = TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+
+        Gauge.builder("audit.backlog", buffer, AuditRingBuffer::size)
+                .description("Change events buffered but not yet written to issue_history")
+                .register(meterRegistry);
+        Gauge.builder("audit.capacity", buffer, AuditRingBuffer::capacity)
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.events.written").register(meterRegistry);
+        this.droppedFull = Counter.builder("audit.events.dropped").tag("reason", "buffer_full")
+                .register(meterRegistry);
+        this.droppedFailed = Counter.builder("audit.events.dropped").tag("reason", "write_failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (durability == Durability.SYNC) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "issue-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Stop the writer, then flush whatever is still buffered before the DataSource closes.
+    // The buffer has a single consumer, so it is only drained here once the writer has exited.
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (writer.isAlive()) {
+            log.warn("Issue history writer did not stop; {} buffered rows not written", buffer.size());
+            return;
+        }
+        List<IssueChangedEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onIssueChangedBeforeCommit(IssueChangedEvent event) {
+        if (durability == Durability.SYNC) {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, event));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (durability == Durability.SYNC || buffer.offer(event)) {
+            return;
+        }
+        if (durability == Durability.BLOCK_WHEN_FULL) {
+            long deadline = System.nanoTime() + maxBlockNanos;
+            LockSupport.unpark(writer);
+            while (System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                if (buffer.offer(event)) {
+                    return;
+                }
+            }
+        }
+        droppedFull.increment();
+    }
+
+    @Override
+    @Timed("app.service")
+    @Transactional(readOnly = true)
+    public List<IssueHistoryDto> getHistory(Long issueId) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            IssueHistoryDto dto = new IssueHistoryDto();
+            dto.setId(rs.getLong("id"));
+            dto.setIssueId(rs.getLong("issue_id"));
+            dto.setChangeType(IssueChangedEvent.Type.valueOf(rs.getString("change_type")));
+            String oldStatus = rs.getString("old_status");
+            dto.setOldStatus(oldStatus != null ? IssueStatus.valueOf(oldStatus) : null);
+            String newStatus = rs.getString("new_status");
+            dto.setNewStatus(newStatus != null ? IssueStatus.valueOf(newStatus) : null);
+            dto.setOldAssigneeId(rs.getObject("old_assignee_id", Long.class));
+            dto.setNewAssigneeId(rs.getObject("new_assignee_id", Long.class));
+            dto.setActorUserId(rs.getObject("actor_user_id", Long.class));
+            dto.setOccurredAt(rs.getTimestamp("occurred_at").toLocalDateTime());
+            return dto;
+        }, issueId);
+    }
+
+    private void drainLoop() {
+        List<IssueChangedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            int drained = buffer.drainTo(batch, batchSize);
+            if (drained > 0) {
+                flush(batch);
+            }
+            // A full batch means more is probably waiting; otherwise wait for the next interval
+            if (drained < batchSize) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+    }
+
+    private void flush(List<IssueChangedEvent> batch) {
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+            written.increment(batch.size());
+        } catch (DataAccessException e) {
+            droppedFailed.increment(batch.size());
+            log.warn("Dropped {} issue history rows: {}", batch.size(), e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void bind(PreparedStatement ps, IssueChangedEvent event) throws SQLException {
+        ps.setLong(1, event.issueId());
+        ps.setString(2, event.type().name());
+        setNullable(ps, 3, event.oldStatus() != null ? event.oldStatus().name() : null, Types.VARCHAR);
+        setNullable(ps, 4, event.newStatus() != null ? event.newStatus().name() : null, Types.VARCHAR);
+        setNullable(ps, 5, event.oldAssigneeId(), Types.BIGINT);
+        setNullable(ps, 6, event.newAssigneeId(), Types.BIGINT);
+        setNullable(ps, 7, event.actorUserId(), Types.BIGINT);
+        ps.setTimestamp(8, Timestamp.valueOf(event.occurredAt()));
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+}
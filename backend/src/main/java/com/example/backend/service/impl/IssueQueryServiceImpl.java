@@ -1,16 +1,27 @@
 package com.example.backend.service.impl;
 
-import com.example.backend.model.Issue;
+import com.example.backend.dto.ChangeToken;
+import com.example.backend.dto.IssueChange;
+import com.example.backend.dto.IssueChangesDto;
+import com.example.backend.dto.IssueCursor;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.dto.IssueField;
+import com.example.backend.dto.IssueSearchCursor;
+import com.example.backend.dto.IssueSearchHit;
 import com.example.backend.model.IssueStatus;
 import com.example.backend.repository.IssueRepository;
 import com.example.backend.service.IssueQueryService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Service
+@Timed("app.service")
 @Transactional(readOnly = true)
 public class IssueQueryServiceImpl implements IssueQueryService {
 
@@ -18,17 +29,78 @@ public class IssueQueryServiceImpl implements IssueQueryService {
     private IssueRepository issueRepository;
 
     @Override
-    public List<Issue> getFilteredIssues(
+    public List<IssueDto> getFilteredIssuePage(
             IssueStatus status,
             Long assignedToUserId,
-            Long createdById
+            Long createdById,
+            IssueCursor after,
+            int limit,
+            Set<IssueField> fields,
+            boolean includeArchived
     ) {
 
-        return issueRepository.findFiltered(
+        return issueRepository.findFilteredPage(
                 status,
                 assignedToUserId,
-                createdById
+                createdById,
+                after,
+                limit,
+                fields,
+                includeArchived
         );
     }
-}
 
+    @Override
+    public List<IssueSearchHit> searchIssuePage(
+            String query,
+            IssueStatus status,
+            Long assignedToUserId,
+            Long createdById,
+            IssueSearchCursor after,
+            int limit,
+            Set<IssueField> fields,
+            boolean includeArchived
+    ) {
+
+        return issueRepository.searchPage(
+                query,
+                status,
+                assignedToUserId,
+                createdById,
+                after,
+                limit,
+                fields,
+                includeArchived
+        );
+    }
+
+    @Override
+    public IssueChangesDto getChangesSince(ChangeToken since, int limit, Set<IssueField> fields) {
+        List<IssueChange> changes = issueRepository.findChangesAfter(since.seq(), limit + 1, fields);
+
+        List<IssueDto> changed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        long token = since.seq();
+        boolean hasMore = false;
+
+        for (IssueChange change : changes) {
+            if (changed.size() + removed.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            if (change.removed()) {
+                removed.add(change.issueId());
+            } else {
+                changed.add(change.issue());
+            }
+            token = change.seq();
+        }
+
+        IssueChangesDto dto = new IssueChangesDto();
+        dto.setChanged(changed);
+        dto.setRemoved(removed);
+        dto.setToken(new ChangeToken(token).encode());
+        dto.setHasMore(hasMore);
+        return dto;
+    }
+}
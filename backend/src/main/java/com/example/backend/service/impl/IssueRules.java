@@ -0,0 +1,224 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Role;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Status transition and assignment rules, compiled once into dense lookup tables.
+ * The check methods take only enums and primitives and return a preallocated
+ * {@link Rejection} (or null to accept), so deciding allocates nothing. Rejections
+ * reuse one stackless exception per message; only the ones that name a user are
+ * formatted, when a request is actually rejected.
+ */
+public final class IssueRules {
+
+    /** Why a transition or assignment was refused. */
+    public enum Rejection {
+        INVALID_TRANSITION(ErrorCode.INVALID_TRANSITION),
+        NOT_ASSIGNED(ErrorCode.NOT_ASSIGNED),
+        NOT_ASSIGNEE(ErrorCode.NOT_ASSIGNEE),
+        ROLE_NOT_ALLOWED(ErrorCode.ROLE_NOT_ALLOWED),
+        ASSIGNEE_NOT_DEVELOPER(ErrorCode.ASSIGNEE_NOT_DEVELOPER),
+        ASSIGNER_NOT_ALLOWED(ErrorCode.ASSIGNER_NOT_ALLOWED),
+        ASSIGN_CLOSED(ErrorCode.ASSIGN_CLOSED),
+        ASSIGN_RESOLVED(ErrorCode.ASSIGN_RESOLVED);
+
+        private final ErrorCode code;
+
+        Rejection(ErrorCode code) {
+            this.code = code;
+        }
+
+        public ErrorCode code() {
+            return code;
+        }
+    }
+
+    /** Who may perform one valid transition; roleRejection is thrown as-is when the role is wrong. */
+    public record TransitionRule(IssueStatus from, IssueStatus to, int roleMask, boolean assigneeOnly,
+                                 List<String> roleNames, BusinessException roleRejection, String assigneeMessage) {}
+
+    private static final IssueStatus[] STATUSES = IssueStatus.values();
+    private static final int STATUS_COUNT = STATUSES.length;
+
+    private static final int DEVELOPERS = mask(Role.DEVELOPER);
+    private static final int ADMINS_AND_TESTERS = mask(Role.ADMIN, Role.TESTER);
+
+    // Rule per (from, to) pair, indexed from.ordinal() * STATUS_COUNT + to.ordinal(); null = not allowed
+    private static final TransitionRule[] TRANSITIONS = new TransitionRule[STATUS_COUNT * STATUS_COUNT];
+
+    // Valid transitions per target status, for the guarded UPDATE that does not know the current status
+    private static final Map<IssueStatus, List<TransitionRule>> RULES_INTO = new EnumMap<>(IssueStatus.class);
+
+    private static final int ASSIGNABLE_STATUSES = statusMask(IssueStatus.OPEN, IssueStatus.IN_PROGRESS);
+
+    // Rejections whose message never varies are allocated once and rethrown. NOT_ASSIGNEE,
+    // ASSIGNEE_NOT_DEVELOPER and ASSIGNER_NOT_ALLOWED name the user, so they are built per request.
+    private static final BusinessException[] INVALID_TRANSITION_REJECTIONS =
+            new BusinessException[STATUS_COUNT * STATUS_COUNT];
+    private static final BusinessException[] NOT_ASSIGNED_REJECTIONS = new BusinessException[STATUS_COUNT];
+    private static final BusinessException ASSIGN_CLOSED_REJECTION = new BusinessException(
+            ErrorCode.ASSIGN_CLOSED, "Cannot assign CLOSED issues. Current status: " + IssueStatus.CLOSED);
+    private static final BusinessException ASSIGN_RESOLVED_REJECTION = new BusinessException(
+            ErrorCode.ASSIGN_RESOLVED, "Cannot reassign RESOLVED issues. Reopen the issue first before reassigning.");
+
+    static {
+        define(IssueStatus.OPEN, IssueStatus.IN_PROGRESS, DEVELOPERS, true,
+                "Only DEVELOPERS can move issues to IN_PROGRESS",
+                "Only the assigned developer (%s) can start working on this issue");
+        define(IssueStatus.IN_PROGRESS, IssueStatus.RESOLVED, DEVELOPERS, true,
+                "Only DEVELOPERS can resolve issues",
+                "Only the assigned developer (%s) can resolve this issue");
+        define(IssueStatus.RESOLVED, IssueStatus.CLOSED, ADMINS_AND_TESTERS, false,
+                "Only ADMIN or TESTER can close resolved issues", null);
+        define(IssueStatus.RESOLVED, IssueStatus.OPEN, ADMINS_AND_TESTERS, false,
+                "Only ADMIN or TESTER can reopen resolved issues", null);
+
+        for (IssueStatus to : STATUSES) {
+            List<TransitionRule> rules = new ArrayList<>();
+            for (IssueStatus from : STATUSES) {
+                if (rule(from, to) != null) {
+                    rules.add(rule(from, to));
+                }
+            }
+            RULES_INTO.put(to, List.copyOf(rules));
+        }
+        for (IssueStatus from : STATUSES) {
+            EnumSet<IssueStatus> targets = EnumSet.noneOf(IssueStatus.class);
+            for (IssueStatus to : STATUSES) {
+                if (rule(from, to) != null) {
+                    targets.add(to);
+                }
+            }
+            for (IssueStatus to : STATUSES) {
+                INVALID_TRANSITION_REJECTIONS[from.ordinal() * STATUS_COUNT + to.ordinal()] = new BusinessException(
+                        ErrorCode.INVALID_TRANSITION, String.format(
+                                "Invalid status transition: %s → %s. Valid transitions from %s: %s", from, to, from, targets));
+            }
+        }
+        for (IssueStatus to : STATUSES) {
+            NOT_ASSIGNED_REJECTIONS[to.ordinal()] = new BusinessException(ErrorCode.NOT_ASSIGNED,
+                    "Issue must be assigned to a developer before moving to " + to);
+        }
+    }
+
+    private IssueRules() {
+    }
+
+    /**
+     * Decides a status transition.
+     * @param assigned whether the issue currently has an assignee
+     * @param actorIsAssignee whether the acting user is that assignee
+     * @return null if allowed, otherwise the first rule that refuses it
+     */
+    public static Rejection checkTransition(IssueStatus from, IssueStatus to, Role actorRole,
+                                            boolean assigned, boolean actorIsAssignee) {
+        TransitionRule rule = rule(from, to);
+        if (rule == null) {
+            return Rejection.INVALID_TRANSITION;
+        }
+        if (rule.assigneeOnly()) {
+            if (!assigned) {
+                return Rejection.NOT_ASSIGNED;
+            }
+            if (!actorIsAssignee) {
+                return Rejection.NOT_ASSIGNEE;
+            }
+        }
+        if ((rule.roleMask() & mask(actorRole)) == 0) {
+            return Rejection.ROLE_NOT_ALLOWED;
+        }
+        return null;
+    }
+
+    /**
+     * Decides an assignment.
+     * @return null if allowed, otherwise the first rule that refuses it
+     */
+    public static Rejection checkAssignment(Role assigneeRole, Role assignerRole, IssueStatus status) {
+        if ((DEVELOPERS & mask(assigneeRole)) == 0) {
+            return Rejection.ASSIGNEE_NOT_DEVELOPER;
+        }
+        if ((ADMINS_AND_TESTERS & mask(assignerRole)) == 0) {
+            return Rejection.ASSIGNER_NOT_ALLOWED;
+        }
+        if ((ASSIGNABLE_STATUSES & statusMask(status)) == 0) {
+            return status == IssueStatus.CLOSED ? Rejection.ASSIGN_CLOSED : Rejection.ASSIGN_RESOLVED;
+        }
+        return null;
+    }
+
+    /** The rule for a valid transition, or null if the transition is not allowed at all. */
+    public static TransitionRule rule(IssueStatus from, IssueStatus to) {
+        return TRANSITIONS[from.ordinal() * STATUS_COUNT + to.ordinal()];
+    }
+
+    /** Every valid transition into the given status, one per source status. */
+    public static List<TransitionRule> rulesInto(IssueStatus to) {
+        return RULES_INTO.get(to);
+    }
+
+    /** The exception to throw for a rejected transition; all but NOT_ASSIGNEE are preallocated. */
+    public static BusinessException transitionRejection(Rejection rejection, IssueStatus from, IssueStatus to,
+                                                        String assigneeName) {
+        return switch (rejection) {
+            case INVALID_TRANSITION -> INVALID_TRANSITION_REJECTIONS[from.ordinal() * STATUS_COUNT + to.ordinal()];
+            case NOT_ASSIGNED -> NOT_ASSIGNED_REJECTIONS[to.ordinal()];
+            case NOT_ASSIGNEE -> new BusinessException(rejection.code(),
+                    String.format(rule(from, to).assigneeMessage(), assigneeName));
+            case ROLE_NOT_ALLOWED -> rule(from, to).roleRejection();
+            default -> throw new IllegalArgumentException("Not a transition rejection: " + rejection);
+        };
+    }
+
+    /** The exception to throw for a rejected assignment; the status rejections are preallocated. */
+    public static BusinessException assignmentRejection(Rejection rejection, String assigneeName, Role assigneeRole,
+                                                        String assignerName, Role assignerRole) {
+        return switch (rejection) {
+            case ASSIGNEE_NOT_DEVELOPER -> new BusinessException(rejection.code(), String.format(
+                    "Assignee must be a DEVELOPER. User '%s' has role: %s", assigneeName, assigneeRole));
+            case ASSIGNER_NOT_ALLOWED -> new BusinessException(rejection.code(), String.format(
+                    "Only ADMIN or TESTER can assign issues. User '%s' has role: %s", assignerName, assignerRole));
+            case ASSIGN_CLOSED -> ASSIGN_CLOSED_REJECTION;
+            case ASSIGN_RESOLVED -> ASSIGN_RESOLVED_REJECTION;
+            default -> throw new IllegalArgumentException("Not an assignment rejection: " + rejection);
+        };
+    }
+
+    private static void define(IssueStatus from, IssueStatus to, int roleMask, boolean assigneeOnly,
+                               String roleMessage, String assigneeMessage) {
+        List<String> roleNames = new ArrayList<>();
+        for (Role role : Role.values()) {
+            if ((roleMask & mask(role)) != 0) {
+                roleNames.add(role.name());
+            }
+        }
+        TRANSITIONS[from.ordinal() * STATUS_COUNT + to.ordinal()] = new TransitionRule(
+                from, to, roleMask, assigneeOnly, List.copyOf(roleNames),
+                new BusinessException(ErrorCode.ROLE_NOT_ALLOWED, roleMessage), assigneeMessage);
+    }
+
+    private static int mask(Role role) {
+        return 1 << role.ordinal();
+    }
+
+    private static int mask(Role first, Role second) {
+        return mask(first) | mask(second);
+    }
+
+    private static int statusMask(IssueStatus status) {
+        return 1 << status.ordinal();
+    }
+
+    private static int statusMask(IssueStatus first, IssueStatus second) {
+        return statusMask(first) | statusMask(second);
+    }
+}
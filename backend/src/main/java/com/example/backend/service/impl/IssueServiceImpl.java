@@ -1,19 +1,37 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.BulkCreateResultDto;
+import com.example.backend.dto.UserSummary;
+import com.example.backend.dto.request.CreateIssueRequest;
+import com.example.backend.event.IssueChangedEvent;
 import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.exception.ErrorCodeCounters;
 import com.example.backend.model.*;
 import com.example.backend.repository.IssueRepository;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.service.IssueService;
+import com.example.backend.service.UserDirectoryService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Issue Service Implementation
  * Created by: Kishore (KS)
  */
 @Service
+@Timed("app.service")
 @Transactional
 public class IssueServiceImpl implements IssueService {
 
@@ -21,31 +39,121 @@ public class IssueServiceImpl implements IssueService {
     private IssueRepository issueRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserDirectoryService userDirectory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ErrorCodeCounters errorCounters;
+
+    @Value("${app.issues.bulk-max-items:5000}")
+    private int bulkMaxItems;
+
+    // Matches hibernate.jdbc.batch_size so each flush sends full batches
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     @Override
     public Issue createIssue(String title, String description, Priority priority, Long createdByUserId) {
+        UserSummary creator = resolveCreator(createdByUserId);
+
+        Issue saved = issueRepository.save(newIssue(title, description, priority, creator));
+        eventPublisher.publishEvent(IssueChangedEvent.created(saved.getId(), priority, creator.id()));
+        return saved;
+    }
+
+    @Override
+    public BulkCreateResultDto createIssues(List<CreateIssueRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException("At least one issue is required");
+        }
+        if (requests.size() > bulkMaxItems) {
+            throw new BusinessException("A bulk request can contain at most " + bulkMaxItems + " issues");
+        }
+
+        BulkCreateResultDto result = new BulkCreateResultDto();
+        result.setRequested(requests.size());
+        List<Issue> pending = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateIssueRequest request = requests.get(i);
+            try {
+                validateRequest(request);
+                UserSummary creator = resolveCreator(request.getCreatedByUserId());
+                pending.add(newIssue(request.getTitle(), request.getDescription(), request.getPriority(), creator));
+            } catch (BusinessException e) {
+                errorCounters.increment(e.getCode());
+                result.getErrors().add(new BulkCreateResultDto.ItemError(i, e.getCode(), e.getMessage()));
+            }
+
+            if (pending.size() == batchSize) {
+                persistBatch(pending, result);
+            }
+        }
+        persistBatch(pending, result);
+
+        result.setCreated(result.getCreatedIds().size());
+        return result;
+    }
+
+    // IDs come from the pooled sequence at persist time, so the INSERTs are batched at flush
+    private void persistBatch(List<Issue> pending, BulkCreateResultDto result) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Issue issue : pending) {
+            entityManager.persist(issue);
+            result.getCreatedIds().add(issue.getId());
+            eventPublisher.publishEvent(IssueChangedEvent.created(
+                    issue.getId(), issue.getPriority(), issue.getCreatedBy().getId()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        pending.clear();
+    }
+
+    private void validateRequest(CreateIssueRequest request) {
+        if (request == null) {
+            throw new BusinessException("Issue entry cannot be null");
+        }
+        Set<ConstraintViolation<CreateIssueRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_FAILED, violations.iterator().next().getMessage());
+        }
+    }
+
+    private UserSummary resolveCreator(Long createdByUserId) {
         // Validate creator exists
-        User creator = userRepository.findById(createdByUserId)
-                .orElseThrow(() -> new BusinessException("Creator user not found with ID: " + createdByUserId));
+        UserSummary creator = userDirectory.findById(createdByUserId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "Creator user not found with ID: " + createdByUserId));
 
         // Business Rule: Only TESTER or ADMIN can create issues
-        if (creator.getRole() != Role.TESTER && creator.getRole() != Role.ADMIN) {
-            throw new BusinessException(
+        if (creator.role() != Role.TESTER && creator.role() != Role.ADMIN) {
+            throw new BusinessException(ErrorCode.CREATOR_NOT_ALLOWED,
                 String.format("Only TESTER or ADMIN can create issues. Current user '%s' has role: %s",
-                creator.getName(), creator.getRole())
+                creator.name(), creator.role())
             );
         }
+        return creator;
+    }
 
+    private Issue newIssue(String title, String description, Priority priority, UserSummary creator) {
         // Create issue entity
         Issue issue = new Issue();
         issue.setTitle(title);
         issue.setDescription(description != null ? description.trim() : null);
         issue.setPriority(priority);
         issue.setStatus(IssueStatus.OPEN); // Always start as OPEN
-        issue.setCreatedBy(creator);
+        issue.setCreatedBy(creator.toUser());
         // assignedTo is null initially
 
-        return issueRepository.save(issue);
+        return issue;
     }
 }
\ No newline at end of file
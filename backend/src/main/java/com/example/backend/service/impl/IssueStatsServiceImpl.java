@@ -0,0 +1,188 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.IssueStatsDto;
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.repository.IssueArchiveRepository;
+import com.example.backend.repository.IssueRepository;
+import com.example.backend.service.IssueStatsService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory issue counters for the dashboard.
+ * Each assignee (or UNASSIGNED) owns a dense status x priority array of LongAdders,
+ * updated after commit from IssueChangedEvent. A scheduled reconciliation rebuilds
+ * the whole table from one GROUP BY query and swaps it in, correcting any drift
+ * (e.g. events lost on a crash or changes made outside the services). Changes that
+ * commit while the query runs are not in its snapshot; they are replayed onto the
+ * rebuilt table before the swap (see {@link IssueCommitFence}).
+ */
+@Service
+@Timed("app.service")
+public class IssueStatsServiceImpl implements IssueStatsService {
+
+    // User IDs come from users_seq, which starts at 1 and is never reset, so 0 never collides with a real assignee
+    private static final long UNASSIGNED = 0L;
+
+    private static final IssueStatus[] STATUSES = IssueStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final int CELLS = STATUSES.length * PRIORITIES.length;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueArchiveRepository issueArchiveRepository;
+
+    @Autowired
+    private IssueCommitFence commitFence;
+
+    private final AtomicReference<ConcurrentHashMap<Long, LongAdder[]>> counters =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+
+    // Non-null while a reconcile runs: changes committed after its snapshot
+    private volatile Queue<IssueChangedEvent> replay;
+
+    @TransactionalEventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        apply(counters.get(), event);
+        Queue<IssueChangedEvent> pending = replay;
+        if (pending != null) {
+            pending.add(event);
+        }
+    }
+
+    private static void apply(ConcurrentHashMap<Long, LongAdder[]> table, IssueChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> cell(table, event.newAssigneeId(), event.newStatus(), event.priority()).increment();
+            case ASSIGNED, STATUS_CHANGED -> {
+                cell(table, event.oldAssigneeId(), event.oldStatus(), event.priority()).decrement();
+                cell(table, event.newAssigneeId(), event.newStatus(), event.priority()).increment();
+            }
+        }
+    }
+
+    @Override
+    public IssueStatsDto getStats() {
+        Map<IssueStatus, Map<Priority, Long>> byStatusAndPriority = new EnumMap<>(IssueStatus.class);
+        Map<IssueStatus, Long> byStatus = new EnumMap<>(IssueStatus.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        Map<Long, Map<IssueStatus, Long>> byAssignee = new HashMap<>();
+
+        for (IssueStatus status : STATUSES) {
+            byStatus.put(status, 0L);
+            Map<Priority, Long> row = new EnumMap<>(Priority.class);
+            for (Priority priority : PRIORITIES) {
+                row.put(priority, 0L);
+            }
+            byStatusAndPriority.put(status, row);
+        }
+        for (Priority priority : PRIORITIES) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        long unassigned = 0;
+
+        for (Map.Entry<Long, LongAdder[]> entry : counters.get().entrySet()) {
+            LongAdder[] cells = entry.getValue();
+            Map<IssueStatus, Long> assigneeRow = new EnumMap<>(IssueStatus.class);
+            long assigneeTotal = 0;
+
+            for (IssueStatus status : STATUSES) {
+                long statusCount = 0;
+                for (Priority priority : PRIORITIES) {
+                    long n = cells[index(status, priority)].sum();
+                    statusCount += n;
+                    byStatusAndPriority.get(status).merge(priority, n, Long::sum);
+                    byPriority.merge(priority, n, Long::sum);
+                }
+                byStatus.merge(status, statusCount, Long::sum);
+                assigneeRow.put(status, statusCount);
+                assigneeTotal += statusCount;
+            }
+
+            total += assigneeTotal;
+            if (entry.getKey() == UNASSIGNED) {
+                unassigned = assigneeTotal;
+            } else if (assigneeTotal > 0) {
+                byAssignee.put(entry.getKey(), assigneeRow);
+            }
+        }
+
+        IssueStatsDto dto = new IssueStatsDto();
+        dto.setTotal(total);
+        dto.setUnassigned(unassigned);
+        dto.setByStatus(byStatus);
+        dto.setByPriority(byPriority);
+        dto.setByStatusAndPriority(byStatusAndPriority);
+        dto.setByAssignee(byAssignee);
+        return dto;
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.stats.reconcile-initial-delay-ms:0}",
+               fixedDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        // Not read-only, so the snapshot is taken on the primary, never on a lagging replica
+        Queue<IssueChangedEvent> committedAfterSnapshot = new ConcurrentLinkedQueue<>();
+        commitFence.snapshot(() -> replay = committedAfterSnapshot);
+
+        List<Object[]> rows = issueRepository.countByStatusPriorityAndAssignee();
+        ConcurrentHashMap<Long, LongAdder[]> fresh = new ConcurrentHashMap<>();
+
+        for (Object[] row : rows) {
+            IssueStatus status = (IssueStatus) row[0];
+            Priority priority = (Priority) row[1];
+            Long assigneeId = (Long) row[2];
+            long count = ((Number) row[3]).longValue();
+            cell(fresh, assigneeId, status, priority).add(count);
+        }
+        // Archived issues still count as CLOSED, so archiving does not change the dashboard
+        for (Object[] row : issueArchiveRepository.countByPriorityAndAssignee()) {
+            cell(fresh, (Long) row[1], IssueStatus.CLOSED, (Priority) row[0]).add((Long) row[2]);
+        }
+
+        commitFence.exclusive(() -> {
+            committedAfterSnapshot.forEach(event -> apply(fresh, event));
+            counters.set(fresh);
+            replay = null;
+        });
+    }
+
+    private static LongAdder cell(ConcurrentHashMap<Long, LongAdder[]> table, Long assigneeId,
+                                  IssueStatus status, Priority priority) {
+        long key = assigneeId != null ? assigneeId : UNASSIGNED;
+        return table.computeIfAbsent(key, k -> newRow())[index(status, priority)];
+    }
+
+    private static LongAdder[] newRow() {
+        LongAdder[] row = new LongAdder[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            row[i] = new LongAdder();
+        }
+        return row;
+    }
+
+    private static int index(IssueStatus status, Priority priority) {
+        return status.ordinal() * PRIORITIES.length + priority.ordinal();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.repository.IssueViewRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps issue_view in step with issue writes, inside the writing transaction.
+ * IssueChangedEvents only collect the touched issue IDs; just before commit the
+ * pending entity changes are flushed and the collected rows are re-copied in one
+ * statement pair, so a bulk create of thousands of issues costs two statements per
+ * chunk, not two per issue. A failure here rolls the issue write back with it.
+ */
+@Component
+public class IssueViewProjector {
+
+    @Autowired
+    private IssueViewRepository issueViewRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            issueViewRepository.refresh(List.of(event.issueId()));
+            return;
+        }
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRefresh();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.issueIds.add(event.issueId());
+    }
+
+    private final class PendingRefresh implements TransactionSynchronization {
+
+        final Set<Long> issueIds = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                entityManager.flush();
+            } catch (PersistenceException e) {
+                // Surface version conflicts as OptimisticLockingFailureException for OptimisticRetryTemplate
+                DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(e);
+                throw translated != null ? translated : e;
+            }
+            issueViewRepository.refresh(issueIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(IssueViewProjector.this);
+        }
+    }
+}
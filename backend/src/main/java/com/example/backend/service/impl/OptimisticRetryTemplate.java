@@ -0,0 +1,64 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-validate-write attempt in its own transaction and re-runs it when
+ * it loses an optimistic version race. Each retry re-reads the issue, so the
+ * business rules are re-validated against the state that won.
+ * Attempts always run in a new transaction: inside a caller's transaction, the first
+ * failure would otherwise mark that transaction rollback-only and waste every retry.
+ * An enclosing transaction is suspended meanwhile, and the write commits on its own.
+ */
+@Component
+public class OptimisticRetryTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetryTemplate(PlatformTransactionManager transactionManager,
+                                   @Value("${app.issues.conflict-max-attempts:3}") int maxAttempts,
+                                   @Value("${app.issues.conflict-backoff-ms:10}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        for (int n = 1; ; n++) {
+            try {
+                return transactionTemplate.execute(status -> attempt.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (n >= maxAttempts) {
+                    throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION, "Issue is being modified concurrently. Please retry.");
+                }
+                backoff(n);
+            }
+        }
+    }
+
+    // Jittered linear backoff so colliding writers do not retry in lockstep
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION, "Interrupted while retrying a conflicting update");
+        }
+    }
+}
@@ -1,116 +1,155 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.dto.UserSummary;
+import com.example.backend.event.IssueChangedEvent;
 import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.exception.PreconditionFailedException;
 import com.example.backend.model.*;
 import com.example.backend.repository.IssueRepository;
-import com.example.backend.repository.UserRepository;
 import com.example.backend.service.StatusTransitionService;
+import com.example.backend.service.UserDirectoryService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.EnumSet;
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * Status Transition Service Implementation
  * Created by: Priyanka (PK)
+ * Transition rules live in IssueRules; they are only re-evaluated here to explain a rejection.
+ * Each attempt runs in its own transaction via OptimisticRetryTemplate, so a lost
+ * version race is retried against fresh state instead of overwriting it.
  */
 @Service
-@Transactional
+@Timed("app.service")
 public class StatusTransitionServiceImpl implements StatusTransitionService {
 
     @Autowired
     private IssueRepository issueRepository;
 
     @Autowired
-    private UserRepository userRepository;
-
-    // Valid transitions mapping
-    private static final java.util.Map<IssueStatus, Set<IssueStatus>> VALID_TRANSITIONS;
-    static {
-        java.util.Map<IssueStatus, Set<IssueStatus>> transitions = new java.util.HashMap<>();
-        transitions.put(IssueStatus.OPEN, EnumSet.of(IssueStatus.IN_PROGRESS));
-        transitions.put(IssueStatus.IN_PROGRESS, EnumSet.of(IssueStatus.RESOLVED));
-        transitions.put(IssueStatus.RESOLVED, EnumSet.of(IssueStatus.CLOSED, IssueStatus.OPEN));
-        transitions.put(IssueStatus.CLOSED, EnumSet.noneOf(IssueStatus.class));
-        VALID_TRANSITIONS = java.util.Collections.unmodifiableMap(transitions);
-    }
+    private UserDirectoryService userDirectory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OptimisticRetryTemplate retryTemplate;
+
+    @Value("${app.issues.guarded-writes:true}")
+    private boolean guardedWrites;
 
     @Override
-    public Issue updateIssueStatus(Long issueId, IssueStatus newStatus, Long userId) {
+    public Issue updateIssueStatus(Long issueId, IssueStatus newStatus, Long userId, Long expectedVersion) {
+        return retryTemplate.execute(() -> attemptUpdate(issueId, newStatus, userId, expectedVersion));
+    }
+
+    private Issue attemptUpdate(Long issueId, IssueStatus newStatus, Long userId, Long expectedVersion) {
+        if (guardedWrites) {
+            return updateGuarded(issueId, newStatus, userId, expectedVersion);
+        }
 
         // (// Validate issue exists
         // Issue issue = issueRepository.findWithUsersById(issueId)
         //         .orElseThrow(() -> new BusinessException("Issue not found with ID: " + issueId));)gven by maharaj the down line for this part alone os edited by priyanka ad this line shows error
-        Issue issue = issueRepository.findById(issueId)
-        .orElseThrow(() -> new BusinessException("Issue not found with ID: " + issueId));
+        Issue issue = findIssue(issueId);
 
-        // Validate user exists
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException("User not found with ID: " + userId));
+        checkVersion(issue, expectedVersion);
 
         IssueStatus currentStatus = issue.getStatus();
+        validateTransition(issue, newStatus, userId);
 
-        // Check if transition is valid
-        if (!VALID_TRANSITIONS.getOrDefault(currentStatus, java.util.Set.of()).contains(newStatus)) {
-            throw new BusinessException(String.format(
-                "Invalid status transition: %s → %s. Valid transitions from %s: %s",
-                currentStatus,
-                newStatus,
-                currentStatus,
-                VALID_TRANSITIONS.get(currentStatus) != null ?
-                        VALID_TRANSITIONS.get(currentStatus).toString() : "NONE"
-            ));
-        }
+        // Perform status update; flush now so a version conflict surfaces inside this attempt
+        issue.setStatus(newStatus);
+        Issue saved = issueRepository.saveAndFlush(issue);
 
-        // Business Rule: Only assigned DEVELOPER can move OPEN → IN_PROGRESS
-        if (currentStatus == IssueStatus.OPEN && newStatus == IssueStatus.IN_PROGRESS) {
-            if (issue.getAssignedTo() == null) {
-                throw new BusinessException("Issue must be assigned to a developer before moving to IN_PROGRESS");
-            }
-            if (!issue.getAssignedTo().getId().equals(userId)) {
-                throw new BusinessException(
-                        String.format("Only the assigned developer (%s) can start working on this issue",
-                                issue.getAssignedTo().getName())
-                );
-            }
-            if (user.getRole() != Role.DEVELOPER) {
-                throw new BusinessException("Only DEVELOPERS can move issues to IN_PROGRESS");
-            }
-        }
+        eventPublisher.publishEvent(IssueChangedEvent.statusChanged(saved.getId(), saved.getPriority(),
+                saved.getAssignedTo() != null ? saved.getAssignedTo().getId() : null,
+                currentStatus, newStatus, userId));
+        return saved;
+    }
 
-        // Business Rule: Only assigned DEVELOPER can move IN_PROGRESS → RESOLVED
-        if (currentStatus == IssueStatus.IN_PROGRESS && newStatus == IssueStatus.RESOLVED) {
-            if (!issue.getAssignedTo().getId().equals(userId)) {
-                throw new BusinessException(
-                        String.format("Only the assigned developer (%s) can resolve this issue",
-                                issue.getAssignedTo().getName())
-                );
-            }
-            if (user.getRole() != Role.DEVELOPER) {
-                throw new BusinessException("Only DEVELOPERS can resolve issues");
+    /**
+     * Applies the transition with one conditional UPDATE per rule leading into the new status,
+     * each checking the current status, the acting user's role, where required that they are
+     * the assignee and, with If-Match, the version. The issue is only read, to build a detailed
+     * message, when no UPDATE matches a row.
+     */
+    private Issue updateGuarded(Long issueId, IssueStatus newStatus, Long userId, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<Issue> previous = Optional.empty();
+        for (IssueRules.TransitionRule rule : IssueRules.rulesInto(newStatus)) {
+            previous = issueRepository.updateStatusIfAllowed(issueId, expectedVersion, rule.from(), newStatus,
+                    userId, rule.assigneeOnly(), rule.roleNames(), now);
+            if (previous.isPresent()) {
+                break;
             }
         }
 
-        // Business Rule: Only ADMIN/TESTER can close RESOLVED issues
-        if (currentStatus == IssueStatus.RESOLVED && newStatus == IssueStatus.CLOSED) {
-            if (user.getRole() != Role.ADMIN && user.getRole() != Role.TESTER) {
-                throw new BusinessException("Only ADMIN or TESTER can close resolved issues");
-            }
+        if (previous.isEmpty()) {
+            // Explain the rejection against the latest committed state
+            Issue current = findIssue(issueId);
+            checkVersion(current, expectedVersion);
+            validateTransition(current, newStatus, userId);
+            // Every rule holds, so another writer changed the issue in between
+            throw new OptimisticLockingFailureException("Issue " + issueId + " changed during status update");
         }
 
-        // Business Rule: Only ADMIN/TESTER can reopen RESOLVED issues
-        if (currentStatus == IssueStatus.RESOLVED && newStatus == IssueStatus.OPEN) {
-            if (user.getRole() != Role.ADMIN && user.getRole() != Role.TESTER) {
-                throw new BusinessException("Only ADMIN or TESTER can reopen resolved issues");
-            }
+        Issue issue = previous.get();
+        IssueStatus currentStatus = issue.getStatus();
+        Long assigneeId = issue.getAssignedTo() != null ? issue.getAssignedTo().getId() : null;
+        issue.setCreatedBy(user(issue.getCreatedBy().getId()));
+        issue.setAssignedTo(assigneeId != null ? user(assigneeId) : null);
+        issue.setStatus(newStatus);
+        issue.setUpdatedAt(now);
+        issue.setVersion(issue.getVersion() + 1);
+
+        eventPublisher.publishEvent(IssueChangedEvent.statusChanged(issue.getId(), issue.getPriority(),
+                assigneeId, currentStatus, newStatus, userId));
+        return issue;
+    }
+
+    private Issue findIssue(Long issueId) {
+        return issueRepository.findById(issueId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ISSUE_NOT_FOUND, "Issue not found with ID: " + issueId));
+    }
+
+    // If-Match: the client only wants to change the version it has seen
+    private static void checkVersion(Issue issue, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(issue.getVersion())) {
+            throw new PreconditionFailedException(String.format(
+                    "Issue %d has changed (version %d, expected %d)", issue.getId(), issue.getVersion(), expectedVersion));
         }
+    }
 
-        // Perform status update
-        issue.setStatus(newStatus);
-        return issueRepository.save(issue);
+    // Detached reference for the returned issue, from the user cache
+    private User user(Long userId) {
+        return userDirectory.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId))
+                .toUser();
     }
-}
 
+    private void validateTransition(Issue issue, IssueStatus newStatus, Long userId) {
 
+        // Validate user exists
+        UserSummary user = userDirectory.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId));
+
+        IssueStatus currentStatus = issue.getStatus();
+        User assignee = issue.getAssignedTo();
+
+        IssueRules.Rejection rejection = IssueRules.checkTransition(currentStatus, newStatus, user.role(),
+                assignee != null, assignee != null && assignee.getId().equals(userId));
+        if (rejection != null) {
+            throw IssueRules.transitionRejection(rejection, currentStatus, newStatus,
+                    assignee != null ? assignee.getName() : null);
+        }
+    }
+}
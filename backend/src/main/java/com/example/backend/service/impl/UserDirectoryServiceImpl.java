@@ -0,0 +1,65 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.dto.UserSummary;
+import com.example.backend.repository.UserRepository;
+import com.example.backend.service.UserDirectoryService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded (size-based, W-TinyLFU) user cache. Entries also expire after a TTL so
+ * role changes made by another instance or directly in the database are picked up.
+ * Unknown IDs are not cached, so a user created elsewhere is visible immediately.
+ */
+@Service
+public class UserDirectoryServiceImpl implements UserDirectoryService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSummary> cache;
+
+    public UserDirectoryServiceImpl(UserRepository userRepository,
+                                    @Value("${app.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${app.user-cache.ttl:10m}") Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    @Override
+    public Optional<UserSummary> findById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        // A null result from the loader is not stored
+        return Optional.ofNullable(cache.get(userId, id ->
+                userRepository.findById(id).map(UserSummary::of).orElse(null)));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
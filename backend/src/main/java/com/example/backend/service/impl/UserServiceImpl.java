@@ -1,13 +1,21 @@
 package com.example.backend.service.impl;
 
 import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
 import com.example.backend.model.Role;
 import com.example.backend.model.User;
+import com.example.backend.repository.IssueArchiveRepository;
+import com.example.backend.repository.IssueViewRepository;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.service.DeveloperWorkloadService;
+import com.example.backend.service.UserDirectoryService;
 import com.example.backend.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -16,32 +24,89 @@ import java.util.List;
  * Created by: Mythili (MY)
  */
 @Service
+@Timed("app.service")
 @Transactional
 public class UserServiceImpl implements UserService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserDirectoryService userDirectory;
+
+    @Autowired
+    private IssueViewRepository issueViewRepository;
+
+    @Autowired
+    private IssueArchiveRepository issueArchiveRepository;
+
+    @Autowired
+    private DeveloperWorkloadService developerWorkloads;
+
     @Override
     public User createUser(String name, Role role) {
         // Validation
         if (name == null || name.trim().isEmpty()) {
-            throw new BusinessException("User name cannot be empty");
+            throw new BusinessException(ErrorCode.VALIDATION_FAILED, "User name cannot be empty");
         }
 
         if (role == null) {
-            throw new BusinessException("Role is required");
+            throw new BusinessException(ErrorCode.VALIDATION_FAILED, "Role is required");
         }
 
         // Prevent duplicate names (case-insensitive)
         String trimmedName = name.trim();
         userRepository.findByName(trimmedName).ifPresent(existing -> {
-            throw new BusinessException("User with name '" + trimmedName + "' already exists");
+            throw new BusinessException(ErrorCode.DUPLICATE_USER, "User with name '" + trimmedName + "' already exists");
         });
 
         // Create and save user
         User user = new User(trimmedName, role);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        if (role == Role.DEVELOPER) {
+            developerWorkloads.addDeveloper(saved.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public User renameUser(Long userId, String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new BusinessException(ErrorCode.VALIDATION_FAILED, "User name cannot be empty");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId));
+
+        String trimmedName = name.trim();
+        userRepository.findByName(trimmedName)
+                .filter(existing -> !existing.getId().equals(userId))
+                .ifPresent(existing -> {
+                    throw new BusinessException(ErrorCode.DUPLICATE_USER, "User with name '" + trimmedName + "' already exists");
+                });
+
+        user.setName(trimmedName);
+        // Flushed first: the row lock makes concurrent view refreshes and archiving wait for this rename
+        User saved = userRepository.saveAndFlush(user);
+        // Denormalized copies of the name: the issue read model, the archive and the user cache
+        issueViewRepository.renameUser(userId, trimmedName);
+        issueArchiveRepository.renameUser(userId, trimmedName);
+        evictAfterCommit(userId);
+        return saved;
+    }
+
+    // Evicted before commit, a concurrent lookup could cache the old name again until the next eviction
+    private void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userDirectory.evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userDirectory.evict(userId);
+            }
+        });
     }
 
     @Override
@@ -0,0 +1,19 @@
+-- Change tokens for GET /api/issues/changes. Every write to an issue_view row (and every move
+-- into issue_archive, which clients see as a removal) clears change_seq; the change sequencer
+-- then numbers the committed rows from one sequence, in its own short transactions. Tokens
+-- therefore only ever appear in ascending order, and "changed since token N" is a single
+-- range scan on change_seq. changed_at is when the row was written.
+CREATE SEQUENCE issue_change_seq;
+
+ALTER TABLE issue_view ADD COLUMN change_seq BIGINT;
+ALTER TABLE issue_view ADD COLUMN changed_at TIMESTAMP(6);
+UPDATE issue_view SET change_seq = nextval('issue_change_seq'), changed_at = updated_at;
+ALTER TABLE issue_view ALTER COLUMN changed_at SET NOT NULL;
+
+ALTER TABLE issue_archive ADD COLUMN change_seq BIGINT;
+ALTER TABLE issue_archive ADD COLUMN changed_at TIMESTAMP(6);
+UPDATE issue_archive SET change_seq = nextval('issue_change_seq'), changed_at = archived_at;
+ALTER TABLE issue_archive ALTER COLUMN changed_at SET NOT NULL;
+
+CREATE UNIQUE INDEX ux_issue_view_change_seq ON issue_view (change_seq);
+CREATE UNIQUE INDEX ux_issue_archive_change_seq ON issue_archive (change_seq);
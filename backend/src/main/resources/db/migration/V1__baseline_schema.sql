@@ -0,0 +1,20 @@
+-- Baseline schema, equivalent to what ddl-auto=update produced for the User and Issue entities.
+-- Databases that already have these tables are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name    VARCHAR(255) NOT NULL,
+    role    VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE issues (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title           VARCHAR(255) NOT NULL,
+    description     TEXT,
+    status          VARCHAR(255) NOT NULL,
+    priority        VARCHAR(255) NOT NULL,
+    created_by_id   BIGINT NOT NULL REFERENCES users (id),
+    assigned_to_id  BIGINT REFERENCES users (id),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6) NOT NULL
+);
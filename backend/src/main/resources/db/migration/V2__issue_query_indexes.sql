@@ -0,0 +1,26 @@
+-- Indexes for the GET /api/issues filter combinations.
+-- Every list query is ordered by (updated_at DESC, id DESC) for keyset pagination, so each
+-- index ends with those columns in that order and a page is a bounded range scan, never a sort.
+
+-- Drop the index previously created by ddl-auto=update from the entity mapping
+DROP INDEX IF EXISTS idx_issues_updated_at_id;
+
+-- No filter
+CREATE INDEX idx_issues_updated_at_id ON issues (updated_at DESC, id DESC);
+
+-- status
+CREATE INDEX idx_issues_status_updated_at ON issues (status, updated_at DESC, id DESC);
+
+-- assignedTo, assignedTo + status
+CREATE INDEX idx_issues_assignee_status_updated_at ON issues (assigned_to_id, status, updated_at DESC, id DESC);
+
+-- createdBy, createdBy + status
+CREATE INDEX idx_issues_creator_status_updated_at ON issues (created_by_id, status, updated_at DESC, id DESC);
+
+-- UserRepository.findByName and the duplicate-name check in UserServiceImpl.
+-- Databases baselined from ddl-auto=update never enforced unique names, so before the index is
+-- built every duplicate but the oldest (lowest id) is renamed to "<name> (#<id>)" and stays usable.
+UPDATE users u SET name = LEFT(u.name, 230) || ' (#' || u.id || ')'
+WHERE EXISTS (SELECT 1 FROM users o WHERE o.name = u.name AND o.id < u.id);
+
+CREATE UNIQUE INDEX ux_users_name ON users (name);
@@ -0,0 +1,2 @@
+-- Optimistic locking column for Issue (@Version); exposed to clients as the ETag.
+ALTER TABLE issues ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
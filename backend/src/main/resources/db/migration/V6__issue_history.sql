@@ -0,0 +1,16 @@
+-- Append-only change history, written in batches by IssueHistoryServiceImpl.
+-- No foreign key to issues: rows are inserted after the change commits and must outlive the issue row.
+CREATE TABLE issue_history (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    issue_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    old_status VARCHAR(20),
+    new_status VARCHAR(20),
+    old_assignee_id BIGINT,
+    new_assignee_id BIGINT,
+    actor_user_id BIGINT,
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- GET /api/issues/{id}/history
+CREATE INDEX idx_issue_history_issue_occurred_at ON issue_history (issue_id, occurred_at, id);
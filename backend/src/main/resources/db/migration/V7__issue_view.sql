@@ -0,0 +1,33 @@
+-- Denormalized read model for GET /api/issues and the export: one row per issue with the
+-- creator and assignee name/role copied in, so list queries need no joins.
+-- Maintained by IssueViewProjector in the same transaction as each issue write,
+-- and by UserServiceImpl.renameUser for user renames.
+CREATE TABLE issue_view (
+    id                BIGINT PRIMARY KEY,
+    title             VARCHAR(255) NOT NULL,
+    description       TEXT,
+    status            VARCHAR(255) NOT NULL,
+    priority          VARCHAR(255) NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6) NOT NULL,
+    version           BIGINT NOT NULL,
+    created_by_id     BIGINT NOT NULL,
+    created_by_name   VARCHAR(255) NOT NULL,
+    created_by_role   VARCHAR(255) NOT NULL,
+    assigned_to_id    BIGINT,
+    assigned_to_name  VARCHAR(255),
+    assigned_to_role  VARCHAR(255)
+);
+
+INSERT INTO issue_view
+SELECT i.id, i.title, i.description, i.status, i.priority, i.created_at, i.updated_at, i.version,
+       c.id, c.name, c.role, a.id, a.name, a.role
+FROM issues i
+JOIN users c ON c.id = i.created_by_id
+LEFT JOIN users a ON a.id = i.assigned_to_id;
+
+-- Same filter/keyset indexes as V2 has on issues
+CREATE INDEX idx_issue_view_updated_at_id ON issue_view (updated_at DESC, id DESC);
+CREATE INDEX idx_issue_view_status_updated_at ON issue_view (status, updated_at DESC, id DESC);
+CREATE INDEX idx_issue_view_assignee_status_updated_at ON issue_view (assigned_to_id, status, updated_at DESC, id DESC);
+CREATE INDEX idx_issue_view_creator_status_updated_at ON issue_view (created_by_id, status, updated_at DESC, id DESC);
@@ -0,0 +1,26 @@
+-- Cold storage for issues that have been CLOSED for longer than app.archive.closed-for.
+-- IssueArchiveServiceImpl moves them here in small batches, deleting them from issues and
+-- issue_view, so the live table and its indexes only hold issues that can still change.
+-- Same denormalized shape as issue_view: CLOSED is terminal, so a row is written once.
+CREATE TABLE issue_archive (
+    id                BIGINT PRIMARY KEY,
+    title             VARCHAR(255) NOT NULL,
+    description       TEXT,
+    status            VARCHAR(255) NOT NULL,
+    priority          VARCHAR(255) NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6) NOT NULL,
+    version           BIGINT NOT NULL,
+    created_by_id     BIGINT NOT NULL,
+    created_by_name   VARCHAR(255) NOT NULL,
+    created_by_role   VARCHAR(255) NOT NULL,
+    assigned_to_id    BIGINT,
+    assigned_to_name  VARCHAR(255),
+    assigned_to_role  VARCHAR(255),
+    archived_at       TIMESTAMP(6) NOT NULL
+);
+
+-- Every archived row is CLOSED, so the keyset indexes need no status column
+CREATE INDEX idx_issue_archive_updated_at_id ON issue_archive (updated_at DESC, id DESC);
+CREATE INDEX idx_issue_archive_assignee_updated_at ON issue_archive (assigned_to_id, updated_at DESC, id DESC);
+CREATE INDEX idx_issue_archive_creator_updated_at ON issue_archive (created_by_id, updated_at DESC, id DESC);
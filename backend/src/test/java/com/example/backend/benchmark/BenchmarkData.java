@@ -0,0 +1,58 @@
+package com.example.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.backend.model.Issue;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.model.User;
+
+/**
+ * Deterministic issue fixtures shared by the benchmarks: every other issue is assigned,
+ * and descriptions are a few hundred characters, like a typical bug report.
+ */
+final class BenchmarkData {
+
+    private static final String DESCRIPTION = "Steps to reproduce: open the board, filter by assignee, "
+            + "switch to the second page and sort by priority. Expected: the list keeps the filter. "
+            + "Actual: the filter is dropped and every issue in the project is shown. "
+            + "Happens in Chrome and Firefox, not reproducible on the staging environment.";
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id, String name, Role role) {
+        User user = new User(name, role);
+        user.setId(id);
+        return user;
+    }
+
+    static List<Issue> issues(int count, boolean withIds) {
+        User tester = user(1L, "tester", Role.TESTER);
+        User developer = user(2L, "developer", Role.DEVELOPER);
+        IssueStatus[] statuses = IssueStatus.values();
+        Priority[] priorities = Priority.values();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Issue issue = new Issue();
+            if (withIds) {
+                issue.setId((long) i + 1);
+            }
+            issue.setTitle("Issue " + i + ": filter lost when paging");
+            issue.setDescription(DESCRIPTION);
+            issue.setStatus(statuses[i % statuses.length]);
+            issue.setPriority(priorities[i % priorities.length]);
+            issue.setCreatedBy(tester);
+            issue.setAssignedTo(i % 2 == 0 ? developer : null);
+            issue.setCreatedAt(base.plusMinutes(i));
+            issue.setUpdatedAt(base.plusMinutes(i + 30));
+            issues.add(issue);
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.backend.dto.ApiResponse;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.mapper.IssueMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Jackson serialization of an issue list response, with the ObjectMapper defaults
+ * Spring Boot applies (java.time module, ISO dates).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueJsonBenchmark {
+
+    @Param({"50", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<IssueDto>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        IssueMapper mapper = new IssueMapper();
+        List<IssueDto> dtos = BenchmarkData.issues(size, true).stream().map(mapper::toDto).toList();
+        response = ApiResponse.page("Issues retrieved successfully", dtos, "eyJ1IjoiMjAyNi0wMS0wMVQwOTowMCIsImkiOjF9");
+    }
+
+    @Benchmark
+    public byte[] serializeIssuePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.backend.dto.IssueDto;
+import com.example.backend.mapper.IssueMapper;
+import com.example.backend.model.Issue;
+
+/**
+ * IssueMapper.toDto over a whole list, as done for entity-based responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final IssueMapper mapper = new IssueMapper();
+    private List<Issue> issues;
+
+    @Setup
+    public void setUp() {
+        issues = BenchmarkData.issues(size, true);
+    }
+
+    @Benchmark
+    public List<IssueDto> toDtoList() {
+        List<IssueDto> dtos = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            dtos.add(mapper.toDto(issue));
+        }
+        return dtos;
+    }
+}
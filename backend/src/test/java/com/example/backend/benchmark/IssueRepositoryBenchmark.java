@@ -0,0 +1,88 @@
+package com.example.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.model.Issue;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Role;
+import com.example.backend.model.User;
+import com.example.backend.repository.IssueRepository;
+import com.example.backend.repository.IssueViewRepository;
+import com.example.backend.repository.UserRepository;
+
+/**
+ * Issue list queries against the embedded H2 database from src/test/resources: the
+ * keyset-paged issue_view read behind GET /api/issues, filtered and unfiltered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IssueRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000"})
+    private int issueCount;
+
+    private ConfigurableApplicationContext context;
+    private IssueRepository issueRepository;
+    private Long developerId;
+
+    @Setup
+    public void setUp() {
+        // Security config needs a web context; a random port keeps it off 8080
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .run("--server.port=0", "--spring.main.banner-mode=off");
+        issueRepository = context.getBean(IssueRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        User tester = userRepository.save(new User("bench-tester", Role.TESTER));
+        User developer = userRepository.save(new User("bench-developer", Role.DEVELOPER));
+        developerId = developer.getId();
+
+        List<Issue> issues = BenchmarkData.issues(issueCount, false);
+        for (Issue issue : issues) {
+            issue.setCreatedBy(tester);
+            issue.setAssignedTo(issue.getAssignedTo() != null ? developer : null);
+        }
+        List<Long> ids = issueRepository.saveAll(issues).stream().map(Issue::getId).toList();
+        // Seeded through the repository, not the services, so no events fill the read model
+        context.getBean(IssueViewRepository.class).refresh(ids);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<IssueDto> findFilteredPageByAssigneeAndStatus() {
+        return issueRepository.findFilteredPage(IssueStatus.OPEN, developerId, null, null, PAGE_SIZE + 1);
+    }
+
+    @Benchmark
+    public List<IssueDto> findFilteredPageUnfiltered() {
+        return issueRepository.findFilteredPage(null, null, null, null, PAGE_SIZE + 1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Role;
+import com.example.backend.service.impl.IssueRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decision cost of IssueRules. Run with "-prof gc": gc.alloc.rate.norm should be ~0 B/op
+ * for every benchmark, rejected decisions included, since messages are only built on demand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IssueRulesBenchmark {
+
+    private static final IssueStatus[] STATUSES = IssueStatus.values();
+    private static final Role[] ROLES = Role.values();
+
+    private int i;
+
+    @Benchmark
+    public IssueRules.Rejection transitionAccepted() {
+        return IssueRules.checkTransition(IssueStatus.OPEN, IssueStatus.IN_PROGRESS, Role.DEVELOPER, true, true);
+    }
+
+    @Benchmark
+    public IssueRules.Rejection transitionRejected() {
+        return IssueRules.checkTransition(IssueStatus.RESOLVED, IssueStatus.CLOSED, Role.DEVELOPER, true, true);
+    }
+
+    // Cycles through every (from, to, role) combination so the JIT cannot fold the lookup
+    @Benchmark
+    public IssueRules.Rejection transitionMixed() {
+        int n = i++;
+        return IssueRules.checkTransition(STATUSES[n & 3], STATUSES[(n >>> 2) & 3],
+                ROLES[(n >>> 4) % ROLES.length], (n & 64) == 0, (n & 128) == 0);
+    }
+
+    @Benchmark
+    public IssueRules.Rejection assignmentMixed() {
+        int n = i++;
+        return IssueRules.checkAssignment(ROLES[n % ROLES.length], ROLES[(n >>> 2) % ROLES.length],
+                STATUSES[(n >>> 4) & 3]);
+    }
+}
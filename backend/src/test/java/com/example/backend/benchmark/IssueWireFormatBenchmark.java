@@ -0,0 +1,89 @@
+package com.example.backend.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.backend.dto.ApiResponse;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.mapper.IssueMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Cost of producing an issue list response in each wire format the API negotiates,
+ * with and without gzip (server.compression). The encoded size of one response is
+ * printed at the end of each run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IssueWireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    @Param({"50", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<IssueDto>> response;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        writer = objectMapper.writer();
+        IssueMapper mapper = new IssueMapper();
+        List<IssueDto> dtos = BenchmarkData.issues(size, true).stream().map(mapper::toDto).toList();
+        response = ApiResponse.page("Issues retrieved successfully", dtos, "eyJ1IjoiMjAyNi0wMS0wMVQwOTowMCIsImkiOjF9");
+    }
+
+    // Printed into the JMH log next to each parameter combination
+    @TearDown
+    public void reportWireSize() throws IOException {
+        System.out.printf("%n%s%s, %d issues: %d bytes per response%n",
+                format, gzip ? "+gzip" : "", size, encodeIssuePage().length);
+    }
+
+    @Benchmark
+    public byte[] encodeIssuePage() throws IOException {
+        byte[] body = writer.writeValueAsBytes(response);
+        if (gzip) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                gzipOut.write(body);
+            }
+            body = out.toByteArray();
+        }
+        return body;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON reports (e.g. target/jmh-result.json saved from two commits)
+ * and prints the primary score of every benchmark/parameter combination side by side.
+ * Exits with status 1 when any benchmark is slower than the threshold (default 10%).
+ *
+ * mvn -Pjmh exec:exec@jmh-compare -Djmh.baseline=base.json -Djmh.current=target/jmh-result.json
+ */
+public final class JmhReportDiff {
+
+    private JmhReportDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhReportDiff <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> current = read(new File(args[1]));
+
+        boolean regressed = false;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue().path("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey())
+                    ? baseline.get(entry.getKey()).path("primaryMetric") : null;
+            String unit = now.path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  %s%n", entry.getKey(), "-", now.path("score").asDouble(), "new", unit);
+                continue;
+            }
+            double change = percentChange(before.path("score").asDouble(), now.path("score").asDouble());
+            // Throughput modes report ops per time unit, where lower is worse
+            double slowdown = unit.contains("/op") ? change : -change;
+            boolean worse = slowdown > threshold;
+            regressed |= worse;
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(),
+                    before.path("score").asDouble(), now.path("score").asDouble(), change, unit,
+                    worse ? "  REGRESSION" : "");
+        }
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    private static double percentChange(double before, double now) {
+        return before == 0 ? 0 : (now - before) * 100.0 / before;
+    }
+
+    // Keyed by benchmark name plus its parameters, e.g. "...IssueJsonBenchmark.serializeIssuePage size=50"
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            Map<String, String> params = new LinkedHashMap<>();
+            run.path("params").fields().forEachRemaining(p -> params.put(p.getKey(), p.getValue().asText()));
+            params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            results.put(key.toString(), run);
+        }
+        return results;
+    }
+}
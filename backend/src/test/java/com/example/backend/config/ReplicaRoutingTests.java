@@ -0,0 +1,152 @@
+package com.example.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.model.Priority;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * ReplicaPoolDataSource routing and ReadYourWritesFilter pinning, against separate
+ * in-memory H2 databases standing in for the primary and the replicas.
+ */
+class ReplicaRoutingTests {
+
+    private static final long HEALTH_CHECK_MILLIS = 60_000;
+
+    private final DriverManagerDataSource primary = new DriverManagerDataSource(h2("primary"), "sa", "");
+    private final List<ReplicaPoolDataSource> routers = new ArrayList<>();
+
+    @AfterEach
+    void closeRouters() {
+        routers.forEach(ReplicaPoolDataSource::close);
+    }
+
+    @Test
+    void readsGoRoundRobinOverHealthyReplicas() throws SQLException {
+        ReplicaPoolDataSource router = router(pool("replica-a", h2("replica-a")), pool("replica-b", h2("replica-b")));
+
+        assertThat(List.of(database(router), database(router), database(router), database(router)))
+                .containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+    }
+
+    @Test
+    void failingReplicaIsSkippedAndAllDownFallsBackToPrimary() throws SQLException {
+        ReplicaPoolDataSource router = router(pool("replica-a", h2("replica-a")), deadPool());
+
+        assertThat(List.of(database(router), database(router), database(router)))
+                .containsOnly("replica-a");
+
+        ReplicaPoolDataSource allDown = router(deadPool());
+        assertThat(database(allDown)).isEqualTo("primary");
+        assertThat(database(allDown)).isEqualTo("primary");
+    }
+
+    // Hikari replica pools refuse per-call credentials: the read goes to the primary, the replica stays in rotation
+    @Test
+    void explicitCredentialsFallBackToPrimaryWithoutMarkingReplicasDown() throws SQLException {
+        ReplicaPoolDataSource router = router(pool("replica-a", h2("replica-a")));
+
+        try (Connection connection = router.getConnection("sa", "")) {
+            assertThat(name(connection)).isEqualTo("primary");
+        }
+        assertThat(database(router)).isEqualTo("replica-a");
+    }
+
+    @Test
+    void writerIsPinnedToPrimaryForTheWindow() throws Exception {
+        ReplicaPoolDataSource router = router(pool("replica-a", h2("replica-a")));
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+        filter.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.CREATED, 1L, Priority.LOW,
+                null, null, null, null, 7L, LocalDateTime.now()));
+
+        assertThat(databaseForUser(filter, router, "7")).isEqualTo("primary");
+        assertThat(databaseForUser(filter, router, "8")).isEqualTo("replica-a");
+        assertThat(databaseForUser(filter, router, null)).isEqualTo("replica-a");
+        assertThat(ReadYourWritesFilter.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void pinningEndsWithTheWindow() throws Exception {
+        ReplicaPoolDataSource router = router(pool("replica-a", h2("replica-a")));
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMillis(1));
+        filter.onIssueChanged(new IssueChangedEvent(IssueChangedEvent.Type.CREATED, 1L, Priority.LOW,
+                null, null, null, null, 7L, LocalDateTime.now()));
+        Thread.sleep(5);
+
+        assertThat(databaseForUser(filter, router, "7")).isEqualTo("replica-a");
+    }
+
+    private String databaseForUser(ReadYourWritesFilter filter, ReplicaPoolDataSource router, String userId)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues");
+        if (userId != null) {
+            request.addHeader(ReadYourWritesFilter.USER_HEADER, userId);
+        }
+        String[] database = new String[1];
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            try {
+                database[0] = database(router);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return database[0];
+    }
+
+    private ReplicaPoolDataSource router(HikariDataSource... replicas) {
+        ReplicaPoolDataSource router = new ReplicaPoolDataSource(primary, List.of(replicas),
+                HEALTH_CHECK_MILLIS, new SimpleMeterRegistry());
+        routers.add(router);
+        return router;
+    }
+
+    // Nothing listens on port 1: every connection attempt fails after the shortest Hikari timeout
+    private static HikariDataSource deadPool() {
+        HikariDataSource pool = pool("dead", "jdbc:h2:tcp://localhost:1/nowhere");
+        pool.setConnectionTimeout(250);
+        return pool;
+    }
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername("sa");
+        pool.setPassword("");
+        pool.setMaximumPoolSize(2);
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+
+    private static String h2(String database) {
+        return "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static String database(ReplicaPoolDataSource router) throws SQLException {
+        try (Connection connection = router.getConnection()) {
+            return name(connection);
+        }
+    }
+
+    // jdbc:h2:mem:<name>
+    private static String name(Connection connection) throws SQLException {
+        String url = connection.getMetaData().getURL();
+        return url.substring(url.lastIndexOf(':') + 1);
+    }
+}
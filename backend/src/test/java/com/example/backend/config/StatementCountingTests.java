@@ -0,0 +1,47 @@
+package com.example.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.example.backend.repository.UserRepository;
+
+/**
+ * Statements are counted at the DataSource, whether JPA or a JdbcTemplate issued them.
+ */
+@SpringBootTest
+class StatementCountingTests {
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void countsNamedParameterJdbcTemplateQueries() {
+        statementCounter.reset();
+
+        namedJdbcTemplate.queryForObject("SELECT COUNT(*) FROM issues WHERE id > :id", Map.of("id", 0L), Long.class);
+        namedJdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id > :id", Map.of("id", 0L), Long.class);
+
+        assertThat(statementCounter.current()).isEqualTo(2);
+    }
+
+    @Test
+    void countsJpaQueries() {
+        statementCounter.reset();
+
+        userRepository.count();
+
+        assertThat(statementCounter.current()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.service.IssueService;
+import com.example.backend.service.UserService;
+
+/**
+ * POST /api/issues/bulk and the pooled id sequences behind it (V4__pooled_id_sequences.sql).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IssueBulkCreateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long testerId;
+
+    @BeforeEach
+    void createTester() {
+        testerId = userService.createUser("tester-" + UUID.randomUUID(), Role.TESTER).getId();
+    }
+
+    @Test
+    void createsValidItemsAndReportsInvalidOnes() throws Exception {
+        String body = "[" +
+                "{\"title\":\"First\",\"priority\":\"LOW\",\"createdByUserId\":" + testerId + "}," +
+                "{\"title\":\"\",\"priority\":\"LOW\",\"createdByUserId\":" + testerId + "}," +
+                "{\"title\":\"Third\",\"priority\":\"HIGH\",\"createdByUserId\":-1}," +
+                "{\"title\":\"Fourth\",\"priority\":\"HIGH\",\"createdByUserId\":" + testerId + "}]";
+
+        mockMvc.perform(post("/api/issues/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.requested").value(4))
+                .andExpect(jsonPath("$.data.created").value(2))
+                .andExpect(jsonPath("$.data.createdIds", hasSize(2)))
+                .andExpect(jsonPath("$.data.errors[*].index").value(contains(1, 2)));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issue_view WHERE created_by_id = ?", Integer.class, testerId)).isEqualTo(2);
+    }
+
+    @Test
+    void nothingCreatedIsABadRequest() throws Exception {
+        String body = "[{\"title\":\"\",\"priority\":\"LOW\",\"createdByUserId\":" + testerId + "}]";
+
+        mockMvc.perform(post("/api/issues/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.created").value(0))
+                .andExpect(jsonPath("$.data.errors", hasSize(1)));
+    }
+
+    @Test
+    void rowsInsertedOutsideTheAppDoNotCollideWithPooledIds() {
+        Long appId = issueService.createIssue("From the app", null, Priority.LOW, testerId).getId();
+
+        // No id given: the column default draws from issues_seq like the application does
+        jdbcTemplate.update("INSERT INTO issues (title, status, priority, created_by_id, created_at, updated_at, version) " +
+                "VALUES ('From a script', 'OPEN', 'LOW', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", testerId);
+        Long scriptId = jdbcTemplate.queryForObject(
+                "SELECT id FROM issues WHERE title = 'From a script' AND created_by_id = ?", Long.class, testerId);
+
+        // With an identity default the script row would have reused an ID from the application's block
+        Long nextAppId = issueService.createIssue("From the app again", null, Priority.LOW, testerId).getId();
+
+        assertThat(scriptId).isNotIn(appId, nextAppId);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.service.IssueService;
+import com.example.backend.service.UserService;
+
+/**
+ * GET /api/issues?q= on H2, which has no tsvector columns and uses the word-match fallback.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IssueSearchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IssueService issueService;
+
+    // Unique per test so issues left by other tests never match
+    private String word;
+    private Long testerId;
+
+    @BeforeEach
+    void createTester() {
+        word = "w" + UUID.randomUUID().toString().substring(0, 8);
+        testerId = userService.createUser("tester-" + word, Role.TESTER).getId();
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() throws Exception {
+        Long inDescription = issueService.createIssue("Login fails", "Stack trace mentions " + word,
+                Priority.LOW, testerId).getId();
+        Long inTitle = issueService.createIssue(word + " crashes on start", null, Priority.LOW, testerId).getId();
+        issueService.createIssue("Unrelated", "Nothing to see", Priority.LOW, testerId);
+
+        mockMvc.perform(get("/api/issues").param("q", word.toUpperCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id").value(contains(inTitle.intValue(), inDescription.intValue())));
+    }
+
+    @Test
+    void everyWordHasToMatch() throws Exception {
+        Long both = issueService.createIssue(word + " export", "times out", Priority.HIGH, testerId).getId();
+        issueService.createIssue(word + " import", "times out", Priority.HIGH, testerId);
+
+        mockMvc.perform(get("/api/issues").param("q", word + " export"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id").value(contains(both.intValue())));
+    }
+
+    @Test
+    void likeWildcardsAreMatchedLiterally() throws Exception {
+        issueService.createIssue(word + " disk full", null, Priority.MEDIUM, testerId);
+
+        mockMvc.perform(get("/api/issues").param("q", word + " %"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(empty()));
+    }
+
+    @Test
+    void aQueryOfOnlyQuotesIsRejected() throws Exception {
+        issueService.createIssue(word + " anything", null, Priority.LOW, testerId);
+
+        mockMvc.perform(get("/api/issues").param("q", "\"\" \""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void quotesAroundWordsAddNoEmptyWords() throws Exception {
+        Long quoted = issueService.createIssue(word + " quoted", null, Priority.LOW, testerId).getId();
+        issueService.createIssue(word + " other", null, Priority.LOW, testerId);
+
+        mockMvc.perform(get("/api/issues").param("q", "\" " + word + " \"quoted\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id").value(contains(quoted.intValue())));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and error count for one endpoint, recorded from many worker threads.
+ */
+class EndpointStats {
+
+    // 1 µs .. 60 s at 3 significant digits
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long startNanos, boolean success) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        latencies.recordValue(Math.max(1, Math.min(micros, latencies.getHighestTrackableValue())));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void reset() {
+        latencies.reset();
+        errors.reset();
+    }
+
+    Map<String, Object> summary(double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long count = latencies.getTotalCount();
+        summary.put("requests", count);
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSecond", round(count / seconds));
+        summary.put("meanMs", round(latencies.getMean() / 1000.0));
+        summary.put("p50Ms", percentileMs(50));
+        summary.put("p90Ms", percentileMs(90));
+        summary.put("p99Ms", percentileMs(99));
+        summary.put("p999Ms", percentileMs(99.9));
+        summary.put("maxMs", round(latencies.getMaxValue() / 1000.0));
+        return summary;
+    }
+
+    private double percentileMs(double percentile) {
+        return round(latencies.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
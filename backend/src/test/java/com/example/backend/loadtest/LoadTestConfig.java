@@ -0,0 +1,72 @@
+package com.example.backend.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness settings, given as key=value program arguments (see LoadTestHarness).
+ * Arguments starting with "--" are passed to the embedded application instead.
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int developers,
+        int testers,
+        int issues,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String output,
+        List<String> appArgs) {
+
+    /** Request types replayed by the workers. */
+    enum Operation { CREATE, ASSIGN, STATUS, LIST }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            values.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestConfig(
+                values.get("baseUrl"),
+                Integer.parseInt(values.getOrDefault("developers", "20")),
+                Integer.parseInt(values.getOrDefault("testers", "10")),
+                Integer.parseInt(values.getOrDefault("issues", "10000")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                parseMix(values.getOrDefault("mix", "create:10,assign:10,status:15,list:65")),
+                values.getOrDefault("output", "target/loadtest-result.json"),
+                List.copyOf(appArgs));
+    }
+
+    LoadTestConfig withRun(String output, List<String> extraAppArgs) {
+        List<String> args = new ArrayList<>(appArgs);
+        args.addAll(extraAppArgs);
+        return new LoadTestConfig(baseUrl, developers, testers, issues, concurrency, warmup, duration, mix,
+                output, List.copyOf(args));
+    }
+
+    // "create:10,list:90" -> relative weights per operation
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            weights.put(Operation.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return weights;
+    }
+}
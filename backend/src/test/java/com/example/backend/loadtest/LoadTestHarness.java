@@ -0,0 +1,346 @@
+package com.example.backend.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.loadtest.LoadTestConfig.Operation;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Closed-loop HTTP load generator for the issue API.
+ *
+ * Boots the application on a random port against the in-memory H2 database (PostgreSQL
+ * mode) from src/test/resources, or targets a running server when baseUrl= is given.
+ * It seeds users and issues through the REST API, then lets `concurrency` workers
+ * replay a weighted mix of creates, assigns, status changes and filtered list queries.
+ * Every request goes through the real endpoints. Throughput and latency percentiles
+ * per endpoint, measured after the warm-up, are written as JSON to `output`.
+ *
+ * mvn -Ploadtest -DskipTests test-compile exec:exec -Dloadtest.args="issues=20000 concurrency=64 duration=120"
+ */
+public final class LoadTestHarness {
+
+    private static final String CREATE = "POST /api/issues";
+    private static final String ASSIGN = "PUT /api/issues/{id}/assign";
+    private static final String STATUS = "PUT /api/issues/{id}/status";
+    private static final String LIST = "GET /api/issues";
+
+    private static final String[] STATUS_FILTERS = {"OPEN", "IN_PROGRESS", "RESOLVED", "CLOSED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final int SEED_BATCH = 1000;
+
+    private final LoadTestConfig config;
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper json = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    private String baseUrl;
+    private final List<Long> developers = new ArrayList<>();
+    private final List<Long> testers = new ArrayList<>();
+
+    // Issues by lifecycle stage, so assigns and transitions are mostly valid requests
+    private final ConcurrentLinkedQueue<Long> unassigned = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<long[]> assigned = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<long[]> inProgress = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> resolved = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = true;
+
+    private LoadTestHarness(LoadTestConfig config) {
+        this.config = config;
+        for (String endpoint : List.of(CREATE, ASSIGN, STATUS, LIST)) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        run(LoadTestConfig.parse(args));
+    }
+
+    /** Runs one load test and returns the report that was also written to config.output(). */
+    static Map<String, Object> run(LoadTestConfig config) throws Exception {
+        ConfigurableApplicationContext context = null;
+        LoadTestHarness harness = new LoadTestHarness(config);
+        try {
+            if (config.baseUrl() == null) {
+                List<String> appArgs = new ArrayList<>(List.of("--server.port=0", "--spring.main.banner-mode=off"));
+                appArgs.addAll(config.appArgs());
+                context = new SpringApplicationBuilder(BackendApplication.class).run(appArgs.toArray(String[]::new));
+                harness.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            } else {
+                harness.baseUrl = config.baseUrl();
+            }
+            harness.seed();
+            return harness.load();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.developers(); i++) {
+            developers.add(createUser("lt-" + run + "-dev-" + i, "DEVELOPER"));
+        }
+        for (int i = 0; i < config.testers(); i++) {
+            testers.add(createUser("lt-" + run + "-tester-" + i, "TESTER"));
+        }
+        for (int offset = 0; offset < config.issues(); offset += SEED_BATCH) {
+            int size = Math.min(SEED_BATCH, config.issues() - offset);
+            List<Map<String, Object>> batch = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                batch.add(issueBody("Seeded issue " + (offset + i)));
+            }
+            JsonNode created = send("POST", "/api/issues/bulk", batch).path("data").path("createdIds");
+            created.forEach(id -> unassigned.add(id.asLong()));
+        }
+        System.out.printf("Seeded %d developers, %d testers, %d issues at %s%n",
+                developers.size(), testers.size(), unassigned.size(), baseUrl);
+    }
+
+    private Map<String, Object> load() throws Exception {
+        List<Operation> deck = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                deck.add(operation);
+            }
+        });
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            workers.submit(() -> {
+                while (running) {
+                    execute(deck.get(ThreadLocalRandom.current().nextInt(deck.size())));
+                }
+            });
+        }
+
+        Thread.sleep(config.warmup().toMillis());
+        stats.values().forEach(EndpointStats::reset);
+        long start = System.nanoTime();
+        Thread.sleep(config.duration().toMillis());
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+
+        return report(seconds);
+    }
+
+    private void execute(Operation operation) {
+        try {
+            boolean done = switch (operation) {
+                case CREATE -> create();
+                case ASSIGN -> assign();
+                case STATUS -> changeStatus();
+                case LIST -> false;
+            };
+            if (!done) {
+                list();
+            }
+        } catch (IOException e) {
+            // Connection-level failure; already counted as an error by timed()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        JsonNode response = timed(CREATE, "POST", "/api/issues", issueBody("Load test issue"));
+        if (response != null) {
+            unassigned.add(response.path("data").path("id").asLong());
+        }
+        return true;
+    }
+
+    private boolean assign() throws IOException, InterruptedException {
+        Long issueId = unassigned.poll();
+        if (issueId == null) {
+            return false;
+        }
+        long developer = pick(developers);
+        JsonNode response = timed(ASSIGN, "PUT", "/api/issues/" + issueId + "/assign",
+                Map.of("assigneeUserId", developer, "assignedByUserId", pick(testers)));
+        if (response != null) {
+            assigned.add(new long[] {issueId, developer});
+        }
+        return true;
+    }
+
+    // Moves one issue a step along OPEN -> IN_PROGRESS -> RESOLVED -> CLOSED
+    private boolean changeStatus() throws IOException, InterruptedException {
+        int first = ThreadLocalRandom.current().nextInt(3);
+        for (int i = 0; i < 3; i++) {
+            switch ((first + i) % 3) {
+                case 0 -> {
+                    long[] issue = assigned.poll();
+                    if (issue != null) {
+                        if (transition(issue[0], "IN_PROGRESS", issue[1])) {
+                            inProgress.add(issue);
+                        }
+                        return true;
+                    }
+                }
+                case 1 -> {
+                    long[] issue = inProgress.poll();
+                    if (issue != null) {
+                        if (transition(issue[0], "RESOLVED", issue[1])) {
+                            resolved.add(issue[0]);
+                        }
+                        return true;
+                    }
+                }
+                default -> {
+                    Long issueId = resolved.poll();
+                    if (issueId != null) {
+                        transition(issueId, "CLOSED", pick(testers));
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean transition(long issueId, String newStatus, long userId) throws IOException, InterruptedException {
+        return timed(STATUS, "PUT", "/api/issues/" + issueId + "/status",
+                Map.of("newStatus", newStatus, "userId", userId)) != null;
+    }
+
+    // The board's filter combinations: none, status, assignee, or both
+    private void list() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder path = new StringBuilder("/api/issues?limit=50");
+        int filter = random.nextInt(4);
+        if ((filter & 1) != 0) {
+            path.append("&status=").append(STATUS_FILTERS[random.nextInt(STATUS_FILTERS.length)]);
+        }
+        if ((filter & 2) != 0) {
+            path.append("&assignedTo=").append(pick(developers));
+        }
+        timed(LIST, "GET", path.toString(), null);
+    }
+
+    private Map<String, Object> issueBody(String title) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", title);
+        body.put("description", "Generated by the load test harness");
+        body.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        body.put("createdByUserId", pick(testers));
+        return body;
+    }
+
+    private long createUser(String name, String role) throws IOException, InterruptedException {
+        return send("POST", "/api/users", Map.of("name", name, "role", role)).path("data").path("id").asLong();
+    }
+
+    private static long pick(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    // Sends and records the latency under the endpoint; returns null for a non-2xx response
+    private JsonNode timed(String endpoint, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        EndpointStats endpointStats = stats.get(endpoint);
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = http.send(request(method, path, body), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            endpointStats.record(start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        endpointStats.record(start, success);
+        return success ? json.readTree(response.body()) : null;
+    }
+
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request(method, path, body), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(method + " " + path + " failed with " + response.statusCode()
+                    + ": " + new String(response.body()));
+        }
+        return json.readTree(response.body());
+    }
+
+    private HttpRequest request(String method, String path, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json");
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private Map<String, Object> report(double seconds) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Map<String, Object> summary = entry.getValue().summary(seconds);
+            total += (long) summary.get("requests");
+            endpoints.put(entry.getKey(), summary);
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", config.baseUrl() == null ? "embedded" : config.baseUrl());
+        settings.put("developers", config.developers());
+        settings.put("testers", config.testers());
+        settings.put("seededIssues", config.issues());
+        settings.put("concurrency", config.concurrency());
+        settings.put("warmupSeconds", config.warmup().toSeconds());
+        settings.put("mix", config.mix());
+        settings.put("appArgs", config.appArgs());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("finishedAt", Instant.now().toString());
+        result.put("config", settings);
+        result.put("durationSeconds", Math.round(seconds * 1000.0) / 1000.0);
+        result.put("totalRequests", total);
+        result.put("throughputPerSecond", Math.round(total / seconds * 1000.0) / 1000.0);
+        result.put("endpoints", endpoints);
+
+        File output = new File(config.output());
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        json.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(output, result);
+
+        System.out.printf("%-30s %10s %8s %10s %9s %9s %9s %9s%n",
+                "Endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        endpoints.forEach((endpoint, value) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> s = (Map<String, Object>) value;
+            System.out.printf("%-30s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint,
+                    s.get("requests"), s.get("errors"), s.get("throughputPerSecond"),
+                    s.get("p50Ms"), s.get("p99Ms"), s.get("p999Ms"), s.get("maxMs"));
+        });
+        System.out.println("Results written to " + output.getAbsolutePath());
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the load test twice against the embedded app, once on Tomcat's platform-thread
+ * pool and once on virtual threads with the database bulkhead, each on a fresh H2
+ * database, and prints throughput and latency percentiles side by side. Takes the
+ * same key=value / --app.arg arguments as LoadTestHarness; a concurrency above
+ * Tomcat's 200 worker threads shows the difference best.
+ *
+ * mvn -Ploadtest -DskipTests test-compile exec:exec -Dloadtest.main=ThreadModeComparison -Dloadtest.args="concurrency=400"
+ */
+public final class ThreadModeComparison {
+
+    private static final String H2_URL =
+            "jdbc:h2:mem:%s;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+
+        results.put("platform", LoadTestHarness.run(config.withRun("target/loadtest-platform.json", List.of(
+                "--spring.datasource.url=" + String.format(H2_URL, "loadtest_platform"),
+                "--spring.threads.virtual.enabled=false",
+                "--app.db.bulkhead.enabled=false"))));
+        results.put("virtual", LoadTestHarness.run(config.withRun("target/loadtest-virtual.json", List.of(
+                "--spring.datasource.url=" + String.format(H2_URL, "loadtest_virtual"),
+                "--spring.threads.virtual.enabled=true",
+                "--app.db.bulkhead.enabled=true"))));
+
+        System.out.printf("%n%-30s %-9s %10s %8s %9s %9s %9s%n",
+                "Endpoint", "mode", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms");
+        for (String endpoint : endpoints(results.get("platform")).keySet()) {
+            results.forEach((mode, result) -> {
+                Map<String, Object> s = endpoints(result).get(endpoint);
+                System.out.printf("%-30s %-9s %10.1f %8d %9.2f %9.2f %9.2f%n", endpoint, mode,
+                        s.get("throughputPerSecond"), s.get("errors"), s.get("p50Ms"), s.get("p99Ms"), s.get("p999Ms"));
+            });
+        }
+        results.forEach((mode, result) -> System.out.printf("%-30s %-9s %10.1f%n", "TOTAL", mode,
+                result.get("throughputPerSecond")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> endpoints(Map<String, Object> result) {
+        return (Map<String, Map<String, Object>>) result.get("endpoints");
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Checks that each GET /api/issues filter combination is planned against the composite
+ * index created for it, on issues (V2__issue_query_indexes.sql), on the issue_view
+ * read model the list endpoint now queries (V7__issue_view.sql) and on the issue_archive
+ * table it also reads for closed issues (V8__issue_archive.sql), plus the change_seq
+ * indexes behind the delta sync feed (V10__issue_change_seq.sql).
+ */
+@SpringBootTest
+class IssueQueryPlanTests {
+
+    private static final String PAGE_SELECT =
+            "SELECT i.id FROM issues i WHERE 1 = 1 %s ORDER BY i.updated_at DESC, i.id DESC LIMIT 51";
+
+    private static final String VIEW_PAGE_SELECT =
+            "SELECT v.id FROM issue_view v WHERE 1 = 1 %s ORDER BY v.updated_at DESC, v.id DESC LIMIT 51";
+
+    private static final String ARCHIVE_PAGE_SELECT =
+            "SELECT v.id FROM issue_archive v WHERE v.status = 'CLOSED' %s ORDER BY v.updated_at DESC, v.id DESC LIMIT 51";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String plan(String predicates) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + String.format(PAGE_SELECT, predicates), String.class)
+                .toLowerCase();
+    }
+
+    private String viewPlan(String predicates) {
+        return explain(VIEW_PAGE_SELECT, predicates);
+    }
+
+    private String explain(String select, String predicates) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + String.format(select, predicates), String.class)
+                .toLowerCase();
+    }
+
+    @Test
+    void unfilteredPageUsesUpdatedAtIndex() {
+        assertThat(plan("")).contains("idx_issues_updated_at_id");
+    }
+
+    @Test
+    void statusFilterUsesStatusIndex() {
+        assertThat(plan("AND i.status = 'OPEN'")).contains("idx_issues_status_updated_at");
+    }
+
+    @Test
+    void assigneeFiltersUseAssigneeIndex() {
+        assertThat(plan("AND i.assigned_to_id = 1"))
+                .contains("idx_issues_assignee_status_updated_at");
+        assertThat(plan("AND i.assigned_to_id = 1 AND i.status = 'IN_PROGRESS'"))
+                .contains("idx_issues_assignee_status_updated_at");
+    }
+
+    @Test
+    void creatorFiltersUseCreatorIndex() {
+        assertThat(plan("AND i.created_by_id = 1"))
+                .contains("idx_issues_creator_status_updated_at");
+        assertThat(plan("AND i.created_by_id = 1 AND i.status = 'RESOLVED'"))
+                .contains("idx_issues_creator_status_updated_at");
+    }
+
+    @Test
+    void viewPagesUseViewIndexes() {
+        assertThat(viewPlan("")).contains("idx_issue_view_updated_at_id");
+        assertThat(viewPlan("AND v.status = 'OPEN'")).contains("idx_issue_view_status_updated_at");
+        assertThat(viewPlan("AND v.assigned_to_id = 1 AND v.status = 'IN_PROGRESS'"))
+                .contains("idx_issue_view_assignee_status_updated_at");
+        assertThat(viewPlan("AND v.created_by_id = 1"))
+                .contains("idx_issue_view_creator_status_updated_at");
+    }
+
+    @Test
+    void archivePagesUseArchiveIndexes() {
+        assertThat(explain(ARCHIVE_PAGE_SELECT, "")).contains("idx_issue_archive_updated_at_id");
+        assertThat(explain(ARCHIVE_PAGE_SELECT, "AND v.assigned_to_id = 1"))
+                .contains("idx_issue_archive_assignee_updated_at");
+        assertThat(explain(ARCHIVE_PAGE_SELECT, "AND v.created_by_id = 1"))
+                .contains("idx_issue_archive_creator_updated_at");
+    }
+
+    @Test
+    void changeFeedUsesChangeSeqIndexes() {
+        String changes = "SELECT v.id FROM %s v WHERE v.change_seq > 100 ORDER BY v.change_seq LIMIT 501";
+        assertThat(explain(changes, "issue_view")).contains("ux_issue_view_change_seq");
+        assertThat(explain(changes, "issue_archive")).contains("ux_issue_archive_change_seq");
+    }
+
+    @Test
+    void findByNameUsesUniqueNameIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT u.id FROM users u WHERE u.name = 'alice'", String.class);
+        assertThat(plan.toLowerCase()).contains("ux_users_name");
+    }
+}
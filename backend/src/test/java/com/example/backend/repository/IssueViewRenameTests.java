@@ -0,0 +1,73 @@
+package com.example.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.service.IssueService;
+import com.example.backend.service.UserService;
+
+/**
+ * A user rename racing an issue write that copies the same user into issue_view.
+ */
+@SpringBootTest
+class IssueViewRenameTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void issueCopiedWhileARenameIsUncommittedGetsTheNewName() throws Exception {
+        Long testerId = userService.createUser("tester-" + UUID.randomUUID(), Role.TESTER).getId();
+        String newName = "renamed-" + UUID.randomUUID();
+        CountDownLatch renamed = new CountDownLatch(1);
+        CountDownLatch commitRename = new CountDownLatch(1);
+
+        // The rename has updated the existing view rows and holds its commit
+        CompletableFuture<Void> rename = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            userService.renameUser(testerId, newName);
+            renamed.countDown();
+            await(commitRename);
+        }));
+        assertThat(renamed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The new issue's view row did not exist yet when the rename updated the view
+        CompletableFuture<Long> create = CompletableFuture.supplyAsync(() ->
+                issueService.createIssue("Created during a rename", null, Priority.LOW, testerId).getId());
+        Thread.sleep(200);
+        commitRename.countDown();
+        rename.get(10, TimeUnit.SECONDS);
+        Long issueId = create.get(10, TimeUnit.SECONDS);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT created_by_name FROM issue_view WHERE id = ?", String.class, issueId)).isEqualTo(newName);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AuditRingBufferTests {
+
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 50_000;
+
+    @Test
+    void offerFailsWhenFullAndSucceedsAfterDrain() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> out = new ArrayList<>();
+        assertThat(buffer.drainTo(out, 2)).isEqualTo(2);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.drainTo(out, 10)).isEqualTo(3);
+        assertThat(out).containsExactly(0, 1, 2, 3, 4);
+        assertThat(buffer.size()).isZero();
+    }
+
+    // Small ring so producers keep wrapping around and hitting a full buffer
+    @Test
+    void concurrentProducersLoseNothingAndKeepTheirOrder() throws Exception {
+        AuditRingBuffer<Long> buffer = new AuditRingBuffer<>(1024);
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            long producer = p;
+            done.add(producers.submit(() -> {
+                start.await();
+                for (long seq = 0; seq < PER_PRODUCER; seq++) {
+                    while (!buffer.offer(producer << 32 | seq)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long[] nextSeq = new long[PRODUCERS];
+        long received = 0;
+        List<Long> batch = new ArrayList<>();
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (received < (long) PRODUCERS * PER_PRODUCER) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Only " + received + " entries drained in time");
+            }
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            for (long element : batch) {
+                int producer = (int) (element >>> 32);
+                long seq = element & 0xFFFFFFFFL;
+                // Exactly the next entry of that producer: nothing lost, duplicated or reordered
+                if (seq != nextSeq[producer]) {
+                    fail("Producer " + producer + ": expected " + nextSeq[producer] + " but got " + seq);
+                }
+                nextSeq[producer]++;
+                received++;
+            }
+        }
+        for (Future<?> future : done) {
+            future.get();
+        }
+        producers.shutdown();
+
+        assertThat(nextSeq).containsOnly(PER_PRODUCER);
+        assertThat(buffer.drainTo(batch, 1)).isZero();
+    }
+}
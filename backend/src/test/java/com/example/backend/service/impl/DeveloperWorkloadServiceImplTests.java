@@ -0,0 +1,119 @@
+package com.example.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.event.IssueChangedEvent;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.repository.IssueRepository;
+import com.example.backend.repository.UserRepository;
+
+/**
+ * Least-loaded picks, reservations and reconciliation against stubbed repositories.
+ * Weights: LOW 1, MEDIUM 2, HIGH 4, CRITICAL 8, plus 2 while IN_PROGRESS.
+ */
+class DeveloperWorkloadServiceImplTests {
+
+    private final IssueRepository issueRepository = mock(IssueRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DeveloperWorkloadServiceImpl workloads = new DeveloperWorkloadServiceImpl(
+            issueRepository, userRepository, new IssueCommitFence(mock(JdbcTemplate.class)), 2);
+
+    // Developer 1: one OPEN HIGH issue (4), developer 2: one OPEN LOW issue (1), developer 3: nothing
+    @BeforeEach
+    void loadWorkloads() {
+        when(userRepository.findIdsByRole(Role.DEVELOPER)).thenReturn(List.of(1L, 2L, 3L));
+        when(issueRepository.countActiveByAssignee(any())).thenReturn(rows(
+                new Object[] {1L, IssueStatus.OPEN, Priority.HIGH, 1L},
+                new Object[] {2L, IssueStatus.OPEN, Priority.LOW, 1L}));
+        workloads.reconcile();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void picksTheLeastLoadedDeveloperAndLowestIdOnATie() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(workloads.reserveLeastLoaded(Priority.LOW)).isEqualTo(3L);
+        // Developers 2 and 3 now both carry 1
+        assertThat(workloads.reserveLeastLoaded(Priority.MEDIUM)).isEqualTo(2L);
+        assertThat(workloads.reserveLeastLoaded(Priority.LOW)).isEqualTo(3L);
+    }
+
+    @Test
+    void reservationIsReleasedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(workloads.reserveLeastLoaded(Priority.CRITICAL)).isEqualTo(3L);
+        assertThat(workloads.reserveLeastLoaded(Priority.LOW)).isEqualTo(2L);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(workloads.reserveLeastLoaded(Priority.LOW)).isEqualTo(3L);
+    }
+
+    @Test
+    void reconcileKeepsReservationsInFlight() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(workloads.reserveLeastLoaded(Priority.CRITICAL)).isEqualTo(3L);
+
+        workloads.reconcile();
+
+        // Developer 3 still carries the reservation of 8
+        assertThat(workloads.reserveLeastLoaded(Priority.HIGH)).isEqualTo(2L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(workloads.reserveLeastLoaded(Priority.LOW)).isEqualTo(3L);
+    }
+
+    @Test
+    void reconcileReplaysChangesCommittedAfterItsSnapshot() {
+        // Developer 3 is assigned a CRITICAL issue while the counting query runs
+        when(issueRepository.countActiveByAssignee(any())).thenAnswer(invocation -> {
+            workloads.onIssueChanged(IssueChangedEvent.assigned(10L, Priority.CRITICAL, IssueStatus.OPEN, null, 3L, 1L));
+            return rows(new Object[] {1L, IssueStatus.OPEN, Priority.HIGH, 1L},
+                    new Object[] {2L, IssueStatus.OPEN, Priority.LOW, 1L});
+        });
+
+        workloads.reconcile();
+
+        assertThat(workloads.reserveLeastLoaded(Priority.LOW)).isEqualTo(2L);
+    }
+
+    @Test
+    void noDeveloperMeansNoPick() {
+        DeveloperWorkloadServiceImpl empty = new DeveloperWorkloadServiceImpl(
+                mock(IssueRepository.class), mock(UserRepository.class), new IssueCommitFence(mock(JdbcTemplate.class)), 2);
+        empty.reconcile();
+
+        assertThat(empty.reserveLeastLoaded(Priority.LOW)).isNull();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+import com.example.backend.exception.PreconditionFailedException;
+import com.example.backend.model.Issue;
+import com.example.backend.model.IssueStatus;
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.repository.IssueRepository;
+import com.example.backend.service.AssignmentService;
+import com.example.backend.service.IssueService;
+import com.example.backend.service.StatusTransitionService;
+import com.example.backend.service.UserService;
+
+/**
+ * Assignments and status transitions through the conditional UPDATE, which runs before any read.
+ */
+@SpringBootTest
+class GuardedWriteTests {
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @Autowired
+    private StatusTransitionService statusTransitionService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    private Long testerId;
+    private Long developerId;
+    private Long issueId;
+
+    @BeforeEach
+    void createIssue() {
+        testerId = userService.createUser("tester-" + UUID.randomUUID(), Role.TESTER).getId();
+        developerId = userService.createUser("developer-" + UUID.randomUUID(), Role.DEVELOPER).getId();
+        issueId = issueService.createIssue("Guarded", null, Priority.MEDIUM, testerId).getId();
+    }
+
+    @Test
+    void assignmentReturnsTheUpdatedIssue() {
+        long version = issueRepository.findById(issueId).orElseThrow().getVersion();
+
+        Issue assigned = assignmentService.assignIssue(issueId, developerId, testerId, version);
+
+        assertThat(assigned.getAssignedTo().getId()).isEqualTo(developerId);
+        assertThat(assigned.getCreatedBy().getId()).isEqualTo(testerId);
+        assertThat(assigned.getVersion()).isEqualTo(version + 1);
+        assertThat(issueRepository.findById(issueId).orElseThrow().getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void assigningANonDeveloperIsRejectedWithTheRuleThatFailed() {
+        assertThatThrownBy(() -> assignmentService.assignIssue(issueId, testerId, testerId, null))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getCode())
+                .isEqualTo(ErrorCode.ASSIGNEE_NOT_DEVELOPER);
+        assertThat(issueRepository.findById(issueId).orElseThrow().getAssignedTo()).isNull();
+    }
+
+    @Test
+    void aStaleIfMatchIsAPreconditionFailure() {
+        long version = issueRepository.findById(issueId).orElseThrow().getVersion();
+        assignmentService.assignIssue(issueId, developerId, testerId, version);
+
+        assertThatThrownBy(() -> statusTransitionService.updateIssueStatus(
+                issueId, IssueStatus.IN_PROGRESS, developerId, version))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void transitionsFollowTheRoleAndAssigneeRules() {
+        assignmentService.assignIssue(issueId, developerId, testerId, null);
+
+        assertThatThrownBy(() -> statusTransitionService.updateIssueStatus(
+                issueId, IssueStatus.IN_PROGRESS, testerId, null))
+                .isInstanceOf(BusinessException.class);
+
+        Issue started = statusTransitionService.updateIssueStatus(issueId, IssueStatus.IN_PROGRESS, developerId, null);
+
+        assertThat(started.getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+        assertThat(started.getAssignedTo().getId()).isEqualTo(developerId);
+        assertThat(issueRepository.findById(issueId).orElseThrow().getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.dto.ChangeToken;
+import com.example.backend.dto.IssueChangesDto;
+import com.example.backend.dto.IssueDto;
+import com.example.backend.model.Priority;
+import com.example.backend.model.Role;
+import com.example.backend.repository.IssueViewRepository;
+import com.example.backend.service.IssueChangeSequencer;
+import com.example.backend.service.IssueQueryService;
+import com.example.backend.service.IssueService;
+import com.example.backend.service.UserService;
+
+/**
+ * GET /api/issues/changes while issue writes commit out of order.
+ */
+@SpringBootTest
+class IssueChangeFeedTests {
+
+    @Autowired
+    private IssueQueryService issueQueryService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IssueViewRepository issueViewRepository;
+
+    @Autowired
+    private IssueChangeSequencer changeSequencer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The first write starts before the second one but commits after it
+    @Test
+    void aPollBetweenTwoCommitsNeverSkipsTheEarlierWrite() throws Exception {
+        // Separate creators, so the two writes share no row locks
+        Long firstTesterId = userService.createUser("tester-" + UUID.randomUUID(), Role.TESTER).getId();
+        Long secondTesterId = userService.createUser("tester-" + UUID.randomUUID(), Role.TESTER).getId();
+        Long first = issueService.createIssue("First", null, Priority.LOW, firstTesterId).getId();
+        changeSequencer.numberPendingChanges();
+        ChangeToken start = new ChangeToken(jdbcTemplate.queryForObject(
+                "SELECT MAX(change_seq) FROM (SELECT change_seq FROM issue_view " +
+                "UNION ALL SELECT change_seq FROM issue_archive) c", Long.class));
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> firstWrite = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            issueViewRepository.refresh(List.of(first));
+            written.countDown();
+            await(commitFirst);
+        }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+        Long second = issueService.createIssue("Second", null, Priority.LOW, secondTesterId).getId();
+
+        changeSequencer.numberPendingChanges();
+        IssueChangesDto during = issueQueryService.getChangesSince(start, 100, null);
+        commitFirst.countDown();
+        firstWrite.get(10, TimeUnit.SECONDS);
+        changeSequencer.numberPendingChanges();
+        IssueChangesDto after = issueQueryService.getChangesSince(ChangeToken.decode(during.getToken()), 100, null);
+
+        assertThat(ids(during)).contains(second).doesNotContain(first);
+        assertThat(ids(after)).contains(first);
+    }
+
+    private static List<Long> ids(IssueChangesDto changes) {
+        List<Long> ids = new ArrayList<>();
+        changes.getChanged().stream().map(IssueDto::getId).forEach(ids::add);
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
+
+@SpringBootTest
+class OptimisticRetryTemplateTests {
+
+    @Autowired
+    private OptimisticRetryTemplate retryTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void retriesInsideAnOuterTransactionDoNotDoomIt() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = transactionTemplate.execute(status -> {
+            String value = retryTemplate.execute(() -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new OptimisticLockingFailureException("lost the race");
+                }
+                return "won";
+            });
+            assertThat(status.isRollbackOnly()).isFalse();
+            return value;
+        });
+
+        assertThat(result).isEqualTo("won");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void exhaustedRetriesAreAConflict() {
+        BusinessException e = catchThrowableOfType(() -> retryTemplate.execute(() -> {
+            throw new OptimisticLockingFailureException("lost the race");
+        }), BusinessException.class);
+
+        assertThat(e.getCode()).isEqualTo(ErrorCode.CONCURRENT_MODIFICATION);
+        assertThat(e.getCode().getStatus()).isEqualTo(HttpStatus.CONFLICT);
+    }
+}
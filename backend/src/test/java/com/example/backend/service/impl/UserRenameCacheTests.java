@@ -0,0 +1,49 @@
+package com.example.backend.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.model.Role;
+import com.example.backend.service.UserDirectoryService;
+import com.example.backend.service.UserService;
+
+/**
+ * The user cache against a rename that has not committed yet.
+ */
+@SpringBootTest
+class UserRenameCacheTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserDirectoryService userDirectory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void aLookupDuringTheRenameDoesNotKeepTheOldName() {
+        String oldName = "tester-" + UUID.randomUUID();
+        String newName = "renamed-" + UUID.randomUUID();
+        Long testerId = userService.createUser(oldName, Role.TESTER).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.renameUser(testerId, newName);
+            // Another request caches the user while the rename is uncommitted
+            String seen = CompletableFuture.supplyAsync(() -> userDirectory.findById(testerId).orElseThrow().name())
+                    .orTimeout(10, TimeUnit.SECONDS).join();
+            assertThat(seen).isEqualTo(oldName);
+        });
+
+        assertThat(userDirectory.findById(testerId).orElseThrow().name()).isEqualTo(newName);
+    }
+}
@@ -13,6 +13,7 @@ const AssignIssuePage = () => {
   const [loading, setLoading] = useState(false);
   const [message, setMessage] = useState({ text: '', type: '' });
   const [fetching, setFetching] = useState({ issues: true, users: true });
+  const [nextCursor, setNextCursor] = useState(null);
 
   // Fetch issues and users on mount
   useEffect(() => {
@@ -20,16 +21,20 @@ const AssignIssuePage = () => {
     fetchUsers();
   }, []);
 
-  const fetchIssues = async () => {
+  // First page of issues, or the next one when a cursor is given
+  const fetchIssues = async (cursor) => {
     setFetching(prev => ({ ...prev, issues: true }));
     try {
       // Get only OPEN or IN_PROGRESS issues that can be assigned
-      const response = await issueService.getAll({
-        status: 'OPEN' // Only show OPEN issues for assignment
+      const response = await issueService.getPage({
+        status: 'OPEN', // Only show OPEN issues for assignment
+        cursor
       });
-      setIssues(response.data.data.filter(issue =>
+      const page = response.data.data.filter(issue =>
         issue.status === 'OPEN' || issue.status === 'IN_PROGRESS'
-      ));
+      );
+      setIssues(prev => cursor ? [...prev, ...page] : page);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       setMessage({
         text: 'Failed to load issues: ' + (error.response?.data?.message || error.message),
@@ -229,6 +234,15 @@ const AssignIssuePage = () => {
                   ))}
                 </select>
               )}
+              {nextCursor && !fetching.issues && (
+                <button
+                  type="button"
+                  onClick={() => fetchIssues(nextCursor)}
+                  className="mt-1 text-xs text-amazon-navy underline"
+                >
+                  Load more issues
+                </button>
+              )}
               <p className="mt-1 text-xs text-gray-500">
                 Only OPEN issues can be assigned to developers
               </p>
@@ -1,7 +1,10 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { issueService, userService } from '../services/api';
 import { FaList, FaFilter, FaSearch, FaSync, FaCheckCircle, FaExclamationTriangle, FaInfoCircle } from 'react-icons/fa';
 
+// Only what the table shows; descriptions are not fetched for the list
+const LIST_FIELDS = 'id,title,status,priority,assignedTo,createdBy,updatedAt';
+
 const IssueListPage = () => {
   const [issues, setIssues] = useState([]);
   const [users, setUsers] = useState([]);
@@ -11,8 +14,13 @@ const IssueListPage = () => {
     createdBy: ''
   });
   const [loading, setLoading] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [message, setMessage] = useState({ text: '', type: '' });
   const [fetchingUsers, setFetchingUsers] = useState(true);
+  // Filters of the list currently shown; the live stream follows them
+  const [streamParams, setStreamParams] = useState({});
+  const [newIssueCount, setNewIssueCount] = useState(0);
 
   useEffect(() => {
     fetchUsers();
@@ -20,6 +28,38 @@ const IssueListPage = () => {
     fetchIssues();
   }, []);
 
+  // Apply pushed changes instead of re-fetching the whole list
+  const streamBroken = useRef(false);
+  useEffect(() => {
+    const source = issueService.stream(streamParams);
+
+    source.addEventListener('issue', (e) => {
+      const change = JSON.parse(e.data);
+      if (change.type === 'CREATED') {
+        setNewIssueCount(n => n + 1);
+        return;
+      }
+      setIssues(prev => prev
+        .map(issue => issue.id !== change.issueId ? issue : {
+          ...issue,
+          status: change.newStatus,
+          assignedTo: change.newAssigneeId ? { ...issue.assignedTo, id: change.newAssigneeId } : null,
+          updatedAt: change.occurredAt
+        })
+        .filter(issue => issue.id !== change.issueId || matchesStreamFilters(issue, streamParams)));
+    });
+    // Changes may have been missed while disconnected (e.g. dropped as a slow consumer)
+    source.onerror = () => { streamBroken.current = true; };
+    source.onopen = () => {
+      if (streamBroken.current) {
+        streamBroken.current = false;
+        fetchIssues();
+      }
+    };
+
+    return () => source.close();
+  }, [streamParams]);
+
   const fetchUsers = async () => {
     setFetchingUsers(true);
     try {
@@ -46,8 +86,13 @@ const IssueListPage = () => {
       if (filters.assignedTo) params.assignedTo = filters.assignedTo;
       if (filters.createdBy) params.createdBy = filters.createdBy;
 
-      const response = await issueService.getAll(params);
+      const response = await issueService.getPage({ ...params, fields: LIST_FIELDS });
       setIssues(response.data.data);
+      setNextCursor(response.data.nextCursor);
+      setNewIssueCount(0);
+      if (JSON.stringify(params) !== JSON.stringify(streamParams)) {
+        setStreamParams(params);
+      }
 
       if (response.data.data.length === 0) {
         setMessage({
@@ -65,6 +110,23 @@ const IssueListPage = () => {
     }
   };
 
+  // Next page of the list currently shown (same filters as the first page)
+  const loadMoreIssues = async () => {
+    setLoadingMore(true);
+    try {
+      const response = await issueService.getPage({ ...streamParams, fields: LIST_FIELDS, cursor: nextCursor });
+      setIssues(prev => [...prev, ...response.data.data]);
+      setNextCursor(response.data.nextCursor);
+    } catch (error) {
+      setMessage({
+        text: 'Error loading issues: ' + (error.response?.data?.message || error.message),
+        type: 'error'
+      });
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleFilterChange = (e) => {
     const { name, value } = e.target;
     setFilters(prev => ({ ...prev, [name]: value }));
@@ -80,6 +142,15 @@ const IssueListPage = () => {
     fetchIssues();
   };
 
+  const matchesStreamFilters = (issue, params) => {
+    if (params.status && issue.status !== params.status) return false;
+    if (params.assignedTo !== undefined) {
+      const assigneeId = issue.assignedTo?.id ?? 0;
+      if (String(assigneeId) !== String(params.assignedTo)) return false;
+    }
+    return true;
+  };
+
   // Status badge helper
   const getStatusBadge = (status) => {
     const statusConfig = {
@@ -262,6 +333,15 @@ const IssueListPage = () => {
           </button>
         </div>
 
+        {newIssueCount > 0 && !loading && (
+          <button
+            onClick={fetchIssues}
+            className="w-full p-3 bg-blue-50 border-b border-blue-200 text-sm text-blue-800 hover:bg-blue-100"
+          >
+            {newIssueCount} new issue{newIssueCount === 1 ? '' : 's'} created. Click to refresh.
+          </button>
+        )}
+
         {loading ? (
           <div className="p-12 text-center">
             <div className="spinner mx-auto mb-4"></div>
@@ -304,9 +384,6 @@ const IssueListPage = () => {
                     </td>
                     <td className="px-6 py-4 whitespace-normal text-sm font-medium text-gray-900 max-w-xs truncate">
                       {issue.title}
-                      {issue.description && (
-                        <p className="text-gray-500 text-xs mt-1 line-clamp-1">{issue.description}</p>
-                      )}
                     </td>
                     <td className="px-6 py-4 whitespace-nowrap">
                       {getStatusBadge(issue.status)}
@@ -327,6 +404,15 @@ const IssueListPage = () => {
                 ))}
               </tbody>
             </table>
+            {nextCursor && (
+              <button
+                onClick={loadMoreIssues}
+                disabled={loadingMore}
+                className="w-full p-3 border-t border-gray-200 text-sm text-amazon-navy hover:bg-gray-50"
+              >
+                {loadingMore ? 'Loading...' : 'Load more issues'}
+              </button>
+            )}
           </div>
         )}
 
@@ -13,6 +13,7 @@ const UpdateStatusPage = () => {
   const [loading, setLoading] = useState(false);
   const [message, setMessage] = useState({ text: '', type: '' });
   const [fetching, setFetching] = useState({ issues: true, users: true });
+  const [nextCursor, setNextCursor] = useState(null);
 
   // Fetch issues and users on mount
   useEffect(() => {
@@ -20,12 +21,15 @@ const UpdateStatusPage = () => {
     fetchUsers();
   }, []);
 
-  const fetchIssues = async () => {
+  // First page of issues, or the next one when a cursor is given
+  const fetchIssues = async (cursor) => {
     setFetching(prev => ({ ...prev, issues: true }));
     try {
-      const response = await issueService.getAll();
+      const response = await issueService.getPage({ cursor });
       // Filter to only issues that can have status updated (not CLOSED)
-      setIssues(response.data.data.filter(issue => issue.status !== 'CLOSED'));
+      const page = response.data.data.filter(issue => issue.status !== 'CLOSED');
+      setIssues(prev => cursor ? [...prev, ...page] : page);
+      setNextCursor(response.data.nextCursor);
     } catch (error) {
       setMessage({
         text: 'Failed to load issues: ' + (error.response?.data?.message || error.message),
@@ -294,6 +298,15 @@ const UpdateStatusPage = () => {
                   ))}
                 </select>
               )}
+              {nextCursor && !fetching.issues && (
+                <button
+                  type="button"
+                  onClick={() => fetchIssues(nextCursor)}
+                  className="mt-1 text-xs text-amazon-navy underline"
+                >
+                  Load more issues
+                </button>
+              )}
               <p className="mt-1 text-xs text-gray-500">
                 Only issues with valid next statuses are shown (CLOSED issues excluded)
               </p>
@@ -10,9 +10,19 @@ const api = axios.create({
   },
 });
 
-// Request interceptor for adding tokens (if needed later)
+// User who made the last issue change from this tab. After a write the backend reads from the primary
+// database for that user for a few seconds (read-your-writes), so lists never show a stale replica.
+let actingUserId = null;
+const actingAs = (userId) => {
+  if (userId) actingUserId = userId;
+};
+
+// Request interceptor: read-your-writes user (and tokens, if needed later)
 api.interceptors.request.use(
-  (config) => config,
+  (config) => {
+    if (actingUserId) config.headers['X-User-Id'] = actingUserId;
+    return config;
+  },
   (error) => Promise.reject(error)
 );
 
@@ -32,10 +42,22 @@ export const userService = {
 };
 
 export const issueService = {
-  getAll: (params) => api.get('/issues', { params }),
-  create: (issueData) => api.post('/issues', issueData),
-  assign: (id, assignData) => api.put(`/issues/${id}/assign`, assignData),
-  updateStatus: (id, statusData) => api.put(`/issues/${id}/status`, statusData),
+  // GET /issues is keyset-paginated: pass the previous response's nextCursor as cursor for the next page
+  getPage: (params) => api.get('/issues', { params }),
+  create: (issueData) => {
+    actingAs(issueData.createdByUserId);
+    return api.post('/issues', issueData);
+  },
+  assign: (id, assignData) => {
+    actingAs(assignData.assignedByUserId);
+    return api.put(`/issues/${id}/assign`, assignData);
+  },
+  updateStatus: (id, statusData) => {
+    actingAs(statusData.userId);
+    return api.put(`/issues/${id}/status`, statusData);
+  },
+  // Server-Sent Events of committed create/assign/status changes; the browser reconnects on its own
+  stream: (params = {}) => new EventSource(`${API_BASE_URL}/issues/stream?${new URLSearchParams(params)}`),
 };
 
 export default api;
\ No newline at end of file